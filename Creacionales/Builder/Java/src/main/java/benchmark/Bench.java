@@ -0,0 +1,43 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+
+public final class Bench {
+
+    public interface Producer {
+        Object run(int iteration);
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile Object escaped;
+
+    private Bench() {}
+
+    public static void measure(String name, int operations, Producer operation) {
+        for (int round = 0; round < 5; round++) {
+            retain(operations / 5, operation);
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        retain(operations, operation);
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.printf("%-45s %10.2f ns/op %10.2f B/op %10.1f MB/s allocated%n",
+                name, (double) elapsed / operations, (double) allocated / operations, allocated * 1e3 / elapsed);
+    }
+
+    public static void escape(Object value) {
+        escaped = value;
+    }
+
+    private static void retain(int operations, Producer operation) {
+        Object[] retained = new Object[64];
+        for (int i = 0; i < operations; i++) {
+            retained[i & 63] = operation.run(i);
+        }
+        escaped = retained;
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import builders.Builder;
+import builders.BuilderPool;
+import builders.CarBuilder;
+import builders.CarManualBuilder;
+import cars.CarType;
+import components.Engine;
+import components.GPSNavigator;
+import components.Transmission;
+import components.TripComputer;
+import director.Director;
+
+/**
+ * Builds 10M city cars the way callers did before builders could be reset
+ * (a new builder and new components for each car), then through
+ * BuilderPool with the shared default GPSNavigator.
+ *
+ * When the whole loop inlines, the JIT scalar-replaces a throwaway builder,
+ * so the "escaping" rows publish it once per car to stand in for service
+ * code where the builder crosses a call boundary.
+ */
+public class BuilderAllocationBenchmark {
+
+    private static final int CARS = 10_000_000;
+
+    public static void main(String[] args) {
+        Director director = new Director();
+
+        Bench.measure("car: new builder, new components", CARS, i -> {
+            CarBuilder builder = new CarBuilder();
+            constructCityCarUnshared(builder);
+            return builder.getResult();
+        });
+        Bench.measure("car: new builder (escaping), new components", CARS, i -> {
+            CarBuilder builder = new CarBuilder();
+            Bench.escape(builder);
+            constructCityCarUnshared(builder);
+            return builder.getResult();
+        });
+        Bench.measure("car: pooled builder, shared navigator", CARS, i -> {
+            CarBuilder builder = BuilderPool.carBuilder();
+            director.constructCityCar(builder);
+            return builder.getResult();
+        });
+        CarBuilder reused = BuilderPool.carBuilder();
+        Bench.measure("car: reused builder, shared navigator", CARS, i -> {
+            reused.reset();
+            director.constructCityCar(reused);
+            return reused.getResult();
+        });
+
+        Bench.measure("manual: new builder, new components", CARS, i -> {
+            CarManualBuilder builder = new CarManualBuilder();
+            constructCityCarUnshared(builder);
+            return builder.getResult();
+        });
+        Bench.measure("manual: new builder (escaping), new components", CARS, i -> {
+            CarManualBuilder builder = new CarManualBuilder();
+            Bench.escape(builder);
+            constructCityCarUnshared(builder);
+            return builder.getResult();
+        });
+        Bench.measure("manual: pooled builder, shared navigator", CARS, i -> {
+            CarManualBuilder builder = BuilderPool.manualBuilder();
+            director.constructCityCar(builder);
+            return builder.getResult();
+        });
+    }
+
+    private static void constructCityCarUnshared(Builder builder) {
+        builder.setCarType(CarType.CITY_CAR);
+        builder.setSeats(2);
+        builder.setEngine(new Engine(1.2, 0));
+        builder.setTransmission(Transmission.AUTOMATIC);
+        builder.setTripComputer(new TripComputer());
+        builder.setGPSNavigator(new GPSNavigator());
+    }
+}
@@ -0,0 +1,62 @@
+package benchmark;
+
+import builders.BuilderPool;
+import builders.CarBuilder;
+import builders.CarManualBuilder;
+import cars.Car;
+import cars.Manual;
+import director.Blueprint;
+import director.Director;
+
+/**
+ * Produces a fleet by replaying the Director recipe for every car, and
+ * through a compiled Blueprint with constructBatch across all cores.
+ */
+public class FleetProductionBenchmark {
+
+    private static final int CARS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Director director = new Director();
+        Blueprint blueprint = director.sportsCarBlueprint();
+        System.out.println(Runtime.getRuntime().availableProcessors() + " cores, " + CARS + " cars per batch");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean report = round == ROUNDS - 1;
+
+            long start = System.nanoTime();
+            Car[] cars = new Car[CARS];
+            for (int i = 0; i < CARS; i++) {
+                CarBuilder builder = BuilderPool.carBuilder();
+                director.constructSportsCar(builder);
+                cars[i] = builder.getResult();
+            }
+            if (report) report("cars: recipe replay, one at a time", start);
+            Bench.escape(cars);
+
+            start = System.nanoTime();
+            Bench.escape(director.constructBatch(blueprint, CARS));
+            if (report) report("cars: blueprint constructBatch", start);
+
+            start = System.nanoTime();
+            Manual[] manuals = new Manual[CARS];
+            for (int i = 0; i < CARS; i++) {
+                CarManualBuilder builder = BuilderPool.manualBuilder();
+                director.constructSportsCar(builder);
+                manuals[i] = builder.getResult();
+            }
+            if (report) report("manuals: recipe replay, one at a time", start);
+            Bench.escape(manuals);
+
+            start = System.nanoTime();
+            Bench.escape(director.constructManualBatch(blueprint, CARS));
+            if (report) report("manuals: blueprint constructManualBatch", start);
+        }
+    }
+
+    private static void report(String name, long start) {
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-45s %10.1f ms %12.0f products/s%n", name, elapsed / 1e6, CARS * 1e9 / elapsed);
+    }
+}
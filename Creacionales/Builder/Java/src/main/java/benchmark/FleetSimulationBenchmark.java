@@ -0,0 +1,38 @@
+package benchmark;
+
+import simulation.FleetSimulation;
+import simulation.TickReport;
+
+/**
+ * Tick rate of FleetSimulation with 1M and 10M cars.
+ */
+public class FleetSimulationBenchmark {
+
+    private static final int[] FLEET_SIZES = {1_000_000, 10_000_000};
+    private static final int TICKS = 50;
+
+    public static void main(String[] args) {
+        System.out.println(Runtime.getRuntime().availableProcessors() + " cores");
+        for (int size : FLEET_SIZES) {
+            FleetSimulation simulation = new FleetSimulation(size);
+            for (int car = 0; car < size; car++) {
+                simulation.setEngine(car, 1.2 + (car % 3) * 0.9, 0);
+                simulation.setFuel(car, 20 + car % 40);
+                if (car % 4 != 0) simulation.on(car);
+            }
+            for (int tick = 0; tick < TICKS; tick++) {
+                simulation.tick(2.5);
+            }
+
+            TickReport report = null;
+            long start = System.nanoTime();
+            for (int tick = 0; tick < TICKS; tick++) {
+                report = simulation.tick(2.5);
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("%,11d cars %10.2f ms/tick %10.1f ticks/s %8.0f M car-updates/s%n",
+                    size, elapsed / 1e6 / TICKS, TICKS * 1e9 / elapsed, (double) size * TICKS * 1e3 / elapsed);
+            System.out.println("    " + report);
+        }
+    }
+}
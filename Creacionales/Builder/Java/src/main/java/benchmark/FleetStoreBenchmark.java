@@ -0,0 +1,98 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import builders.BuilderPool;
+import builders.CarBuilder;
+import cars.Car;
+import cars.CarType;
+import components.Transmission;
+import director.Director;
+import fleet.FleetFilter;
+import fleet.FleetStore;
+
+/**
+ * Scans "automatic SUVs with fuel below 10" over a FleetStore bigger than
+ * the default heap, and over Car objects on the heap for comparison.
+ */
+public class FleetStoreBenchmark {
+
+    private static final long STORE_CARS = 40_000_000L;
+    private static final int HEAP_CARS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        FleetFilter query = FleetFilter.all()
+                .type(CarType.SUV)
+                .transmission(Transmission.AUTOMATIC)
+                .fuelBelow(10);
+        CarType[] types = CarType.values();
+        Transmission[] transmissions = Transmission.values();
+
+        Path file = Files.createTempFile("fleet", ".bin");
+        try (FleetStore store = FleetStore.create(file, STORE_CARS)) {
+            Random random = new Random(42);
+            long start = System.nanoTime();
+            for (long car = 0; car < STORE_CARS; car++) {
+                store.append(types[random.nextInt(types.length)], 2 + random.nextInt(6),
+                        transmissions[random.nextInt(transmissions.length)], random.nextBoolean(), random.nextBoolean(),
+                        1 + random.nextInt(30) / 10.0, random.nextInt(200_000), random.nextInt(60));
+            }
+            System.out.printf("appended %,d cars (%,d MB file) in %.1f s, max heap %,d MB%n",
+                    STORE_CARS, Files.size(file) >> 20, (System.nanoTime() - start) / 1e9,
+                    Runtime.getRuntime().maxMemory() >> 20);
+
+            long matches = 0;
+            long elapsed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                matches = store.count(query);
+                elapsed = System.nanoTime() - start;
+            }
+            report("FleetStore count", STORE_CARS, matches, elapsed);
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                matches = store.select(query).length;
+                elapsed = System.nanoTime() - start;
+            }
+            report("FleetStore select", STORE_CARS, matches, elapsed);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        Director director = new Director();
+        Car[] cars = new Car[HEAP_CARS];
+        Random random = new Random(42);
+        for (int i = 0; i < HEAP_CARS; i++) {
+            CarBuilder builder = BuilderPool.carBuilder();
+            switch (random.nextInt(3)) {
+                case 0: director.constructSportsCar(builder); break;
+                case 1: director.constructCityCar(builder); break;
+                default: director.constructSUV(builder); break;
+            }
+            builder.setTransmission(transmissions[random.nextInt(transmissions.length)]);
+            cars[i] = builder.getResult();
+            cars[i].setFuel(random.nextInt(60));
+        }
+        long matches = 0;
+        long elapsed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            matches = 0;
+            for (Car car : cars) {
+                if (car.getCarType() == CarType.SUV && car.getTransmission() == Transmission.AUTOMATIC
+                        && car.getFuel() < 10) matches++;
+            }
+            elapsed = System.nanoTime() - start;
+        }
+        report("Car[] on the heap", HEAP_CARS, matches, elapsed);
+    }
+
+    private static void report(String name, long cars, long matches, long elapsed) {
+        System.out.printf("%-25s %,12d matches %10.1f ms %8.0f M cars/s %8.2f GB/s of packed column%n",
+                name, matches, elapsed / 1e6, cars * 1e3 / elapsed, cars * 8.0 / elapsed);
+    }
+}
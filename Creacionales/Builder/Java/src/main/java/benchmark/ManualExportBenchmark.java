@@ -0,0 +1,106 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import builders.Builder;
+import builders.BuilderPool;
+import builders.CarBuilder;
+import builders.CarManualBuilder;
+import cars.Car;
+import cars.Manual;
+import director.Director;
+import export.ManualExporter;
+
+/**
+ * Renders and exports manuals with the String += print() this module used
+ * before, with print(Appendable) into a reused StringBuilder, and with
+ * ManualExporter streaming into a FileChannel.
+ */
+public class ManualExportBenchmark {
+
+    private static final int MANUALS = 500_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        Director director = new Director();
+        List<Manual> manuals = new ArrayList<>(MANUALS);
+        List<Car> cars = new ArrayList<>(MANUALS);
+        for (int i = 0; i < MANUALS; i++) {
+            CarManualBuilder manualBuilder = BuilderPool.manualBuilder();
+            construct(director, manualBuilder, i);
+            manuals.add(manualBuilder.getResult());
+            CarBuilder carBuilder = BuilderPool.carBuilder();
+            construct(director, carBuilder, i);
+            cars.add(carBuilder.getResult());
+        }
+        Path file = Files.createTempFile("manuals", ".txt");
+        try {
+            Bench.measure("render: print()", MANUALS, i -> manuals.get(i).print());
+            StringBuilder reused = new StringBuilder(256);
+            Bench.measure("render: print(Appendable), reused builder", MANUALS, i -> {
+                reused.setLength(0);
+                try {
+                    manuals.get(i).print(reused);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return reused;
+            });
+
+            Bench.measure("render: String += (previous print())", MANUALS, i -> legacyPrint(cars.get(i)));
+            System.out.println();
+            for (int round = 0; round < ROUNDS; round++) {
+                boolean report = round == ROUNDS - 1;
+                long start = System.nanoTime();
+                try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    for (Car car : cars) {
+                        writer.write(legacyPrint(car));
+                        writer.write('\n');
+                    }
+                }
+                if (report) report("export: String += into BufferedWriter", start, Files.size(file));
+
+                start = System.nanoTime();
+                long bytes = ManualExporter.export(manuals, file);
+                if (report) report("export: ManualExporter into FileChannel", start, bytes);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void report(String name, long start, long bytes) {
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-45s %12.0f manuals/s %10.1f MB/s%n",
+                name, MANUALS * 1e9 / elapsed, bytes * 1e3 / elapsed);
+    }
+
+    private static void construct(Director director, Builder builder, int i) {
+        switch (i % 3) {
+            case 0: director.constructSportsCar(builder); break;
+            case 1: director.constructCityCar(builder); break;
+            default: director.constructSUV(builder); break;
+        }
+    }
+
+    /* Manual.print() as it was written before print(Appendable) existed,
+    reading the same components from the matching Car */
+    private static String legacyPrint(Car car) {
+        String info = "";
+        info += "Type of car: " + car.getCarType() + "\n";
+        info += "Count of seats: " + car.getSeats() + "\n";
+        info += "Engine: volume - " + car.getEngine().getVolume() + "; mileage - " + car.getEngine().getMileage() + "\n";
+        info += "Transmission: " + car.getTransmission() + "\n";
+        if (car.getTripComputer() != null) info += "Trip Computer: Functional" + "\n";
+        else info += "Trip Computer: N/A" + "\n";
+        if (car.getGPSNavigator() != null) info += "GPS Navigator: Functional" + "\n";
+        else info += "GPS Navigator: N/A" + "\n";
+        return info;
+    }
+}
@@ -0,0 +1,94 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import components.GPSNavigator;
+import navigation.RoadGraph;
+import navigation.RouteCache;
+import navigation.RoutePlanner;
+
+/**
+ * Cached and uncached route queries on a 500 x 500 street grid with
+ * random road lengths: 250k nodes and about 1M one-way edges, written to
+ * an edge-list file and loaded back.
+ */
+public class RoutePlannerBenchmark {
+
+    private static final int SIDE = 500;
+    private static final int UNCACHED_QUERIES = 200;
+    private static final int HOT_PAIRS = 1_000;
+    private static final int CACHED_QUERIES = 2_000_000;
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("roads", ".txt");
+        try {
+            writeGrid(file, new Random(42));
+            long start = System.nanoTime();
+            RoadGraph graph = RoadGraph.load(file);
+            System.out.printf("loaded %,d nodes and %,d edges in %.1f ms%n",
+                    graph.nodeCount(), graph.edgeCount(), (System.nanoTime() - start) / 1e6);
+
+            RoutePlanner planner = new RoutePlanner(graph, 4 * HOT_PAIRS);
+            Random random = new Random(7);
+            int nodes = graph.nodeCount();
+            for (int i = 0; i < UNCACHED_QUERIES / 4; i++) {
+                planner.findRouteUncached(random.nextInt(nodes), random.nextInt(nodes));
+            }
+            start = System.nanoTime();
+            for (int i = 0; i < UNCACHED_QUERIES; i++) {
+                Bench.escape(planner.findRouteUncached(random.nextInt(nodes), random.nextInt(nodes)));
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("%-45s %12.1f us/query%n", "uncached Dijkstra", elapsed / 1e3 / UNCACHED_QUERIES);
+
+            int[] origins = new int[HOT_PAIRS];
+            int[] destinations = new int[HOT_PAIRS];
+            for (int i = 0; i < HOT_PAIRS; i++) {
+                origins[i] = random.nextInt(nodes);
+                destinations[i] = random.nextInt(nodes);
+            }
+            for (int pair = 0; pair < HOT_PAIRS; pair++) {
+                planner.findRoute(origins[pair], destinations[pair]);
+            }
+            start = System.nanoTime();
+            for (int i = 0; i < CACHED_QUERIES; i++) {
+                int pair = i % HOT_PAIRS;
+                Bench.escape(planner.findRoute(origins[pair], destinations[pair]));
+            }
+            elapsed = System.nanoTime() - start;
+            RouteCache cache = planner.getCache();
+            System.out.printf("%-45s %12.3f us/query (%d hot pairs, hit rate %.4f, %d misses)%n",
+                    "cached", elapsed / 1e3 / CACHED_QUERIES, HOT_PAIRS, cache.getHitRate(), cache.getMisses());
+
+            GPSNavigator navigator = new GPSNavigator(planner, origins[0], destinations[0]);
+            System.out.printf("navigator route: %d nodes, length %.1f%n",
+                    navigator.getPlannedRoute().getNodes().length, navigator.getPlannedRoute().getLength());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void writeGrid(Path file, Random random) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# from to length\n");
+            for (int row = 0; row < SIDE; row++) {
+                for (int column = 0; column < SIDE; column++) {
+                    int node = row * SIDE + column;
+                    if (column + 1 < SIDE) writeRoad(writer, node, node + 1, random);
+                    if (row + 1 < SIDE) writeRoad(writer, node, node + SIDE, random);
+                }
+            }
+        }
+    }
+
+    private static void writeRoad(BufferedWriter writer, int a, int b, Random random) throws IOException {
+        double length = 50 + random.nextInt(450);
+        writer.write(a + " " + b + " " + length + "\n");
+        writer.write(b + " " + a + " " + length + "\n");
+    }
+}
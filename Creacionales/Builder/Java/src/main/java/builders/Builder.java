@@ -16,4 +16,5 @@ public interface Builder {
     void setTransmission(Transmission transmission);
     void setTripComputer(TripComputer tripComputer);
     void setGPSNavigator(GPSNavigator gpsNavigator);
+    void reset();
 }
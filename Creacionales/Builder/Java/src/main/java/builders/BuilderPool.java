@@ -0,0 +1,26 @@
+package builders;
+
+/**
+ * Hands out one reusable builder per thread, already reset, so code that
+ * builds many cars does not allocate a builder for each of them.
+ * A pooled builder must not be kept after getResult() is called, because
+ * the next call on the same thread resets it.
+ */
+public final class BuilderPool {
+    private static final ThreadLocal<CarBuilder> CAR_BUILDERS = ThreadLocal.withInitial(CarBuilder::new);
+    private static final ThreadLocal<CarManualBuilder> MANUAL_BUILDERS = ThreadLocal.withInitial(CarManualBuilder::new);
+
+    private BuilderPool() {}
+
+    public static CarBuilder carBuilder() {
+        CarBuilder builder = CAR_BUILDERS.get();
+        builder.reset();
+        return builder;
+    }
+
+    public static CarManualBuilder manualBuilder() {
+        CarManualBuilder builder = MANUAL_BUILDERS.get();
+        builder.reset();
+        return builder;
+    }
+}
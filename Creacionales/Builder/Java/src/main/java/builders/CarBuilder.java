@@ -48,6 +48,16 @@ public class CarBuilder implements Builder {
         this.gpsNavigator = gpsNavigator;
     }
 
+    @Override
+    public void reset() {
+        type = null;
+        seats = 0;
+        engine = null;
+        transmission = null;
+        tripComputer = null;
+        gpsNavigator = null;
+    }
+
     public Car getResult() {
         return new Car(type, seats, engine, transmission, tripComputer, gpsNavigator);
     }
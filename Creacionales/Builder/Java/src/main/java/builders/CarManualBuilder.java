@@ -54,6 +54,16 @@ public class CarManualBuilder implements Builder {
         this.gpsNavigator = gpsNavigator;
     }
 
+    @Override
+    public void reset() {
+        type = null;
+        seats = 0;
+        engine = null;
+        transmission = null;
+        tripComputer = null;
+        gpsNavigator = null;
+    }
+
     public Manual getResult() {
         return new Manual(type, seats, engine, transmission, tripComputer, gpsNavigator);
     }
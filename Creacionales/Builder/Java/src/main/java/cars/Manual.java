@@ -1,5 +1,8 @@
 package cars;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import components.Engine;
 import components.GPSNavigator;
 import components.Transmission;
@@ -27,15 +30,58 @@ public class Manual {
     }    
     
     public String print() {
-        String info = "";
-        info += "Type of car: " + carType + "\n";
-        info += "Count of seats: " + seats + "\n";
-        info += "Engine: volume - " + engine.getVolume() + "; mileage - " + engine.getMileage() + "\n";
-        info += "Transmission: " + transmission + "\n";
-        if (this.tripComputer != null) info += "Trip Computer: Functional" + "\n";
-        else info += "Trip Computer: N/A" + "\n";
-        if (this.gpsNavigator != null) info += "GPS Navigator: Functional" + "\n";
-        else info += "GPS Navigator: N/A" + "\n";
-        return info;
+        StringBuilder info = new StringBuilder(256);
+        try {
+            print(info);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return info.toString();
+    }
+
+    /**
+     * Writes the manual straight into out, so callers rendering many
+     * manuals can reuse one StringBuilder or stream into a Writer.
+     * This is the only place the manual layout is defined.
+     */
+    public void print(Appendable out) throws IOException {
+        text(out, "Type of car: ");
+        text(out, String.valueOf(carType));
+        text(out, "\nCount of seats: ");
+        number(out, seats);
+        text(out, "\nEngine: volume - ");
+        number(out, engine.getVolume());
+        text(out, "; mileage - ");
+        number(out, engine.getMileage());
+        text(out, "\nTransmission: ");
+        text(out, String.valueOf(transmission));
+        text(out, tripComputer != null ? "\nTrip Computer: Functional\n" : "\nTrip Computer: N/A\n");
+        text(out, gpsNavigator != null ? "GPS Navigator: Functional\n" : "GPS Navigator: N/A\n");
+    }
+
+    /* StringBuilder gets its concrete overloads, which format numbers in
+    place and stay cheap to inline; any other Appendable gets Strings */
+    private static void text(Appendable out, String value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(value);
+        }
+    }
+
+    private static void number(Appendable out, int value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Integer.toString(value));
+        }
+    }
+
+    private static void number(Appendable out, double value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Double.toString(value));
+        }
     }
 }
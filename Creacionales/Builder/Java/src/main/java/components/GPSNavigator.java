@@ -1,20 +1,44 @@
 package components;
 
+import navigation.Route;
+import navigation.RoutePlanner;
+
 /**
- * Just another feature of a car
+ * Just another feature of a car. It is immutable, so one navigator with
+ * the default route can be shared by every car.
  */
 public class GPSNavigator {
-    public String route;
+    public static final String DEFAULT_ROUTE = "221b, Baker Street, London to Scotland Yard, 8-10 Broadway, London";
+    public static final GPSNavigator DEFAULT = new GPSNavigator();
+
+    private final String route;
+    private final Route plannedRoute;
 
     public GPSNavigator() {
-        this.route = "221b, Baker Street, London to Scotland Yard, 8-10 Broadway, London";
+        this(DEFAULT_ROUTE);
     }
 
     public GPSNavigator(String manualRoute) {
         this.route = manualRoute;
+        this.plannedRoute = null;
+    }
+
+    /**
+     * Computes the route over the planner's road graph; repeated trips
+     * are served from the planner's route cache.
+     */
+    public GPSNavigator(RoutePlanner planner, int origin, int destination) {
+        this.plannedRoute = planner.findRoute(origin, destination).orElseThrow(() ->
+                new IllegalArgumentException("No route from node " + origin + " to node " + destination));
+        this.route = plannedRoute.toString();
     }
 
     public String getRoute() {
         return route;
     }
+
+    /* Null when the route was given by hand */
+    public Route getPlannedRoute() {
+        return plannedRoute;
+    }
 }
@@ -0,0 +1,126 @@
+package director;
+
+import java.util.function.Consumer;
+
+import builders.Builder;
+import cars.Car;
+import cars.CarType;
+import cars.Manual;
+import components.Engine;
+import components.GPSNavigator;
+import components.Transmission;
+import components.TripComputer;
+
+/**
+ * A building recipe frozen into plain values. Replaying it creates only
+ * the per-car mutable state (Engine, TripComputer) and shares the
+ * immutable parts such as the GPSNavigator.
+ */
+public final class Blueprint {
+    private final CarType carType;
+    private final int seats;
+    private final double engineVolume;
+    private final double engineMileage;
+    private final Transmission transmission;
+    private final boolean tripComputer;
+    private final GPSNavigator gpsNavigator;
+    // Manual never exposes or changes its components, so all manuals share these
+    private final Engine manualEngine;
+    private final TripComputer manualTripComputer;
+
+    private Blueprint(Recorder recorder) {
+        if (recorder.engine == null) {
+            throw new IllegalArgumentException("Recipe did not set an engine");
+        }
+        this.carType = recorder.type;
+        this.seats = recorder.seats;
+        this.engineVolume = recorder.engine.getVolume();
+        this.engineMileage = recorder.engine.getMileage();
+        this.transmission = recorder.transmission;
+        this.tripComputer = recorder.tripComputer != null;
+        this.gpsNavigator = recorder.gpsNavigator;
+        this.manualEngine = new Engine(engineVolume, engineMileage);
+        this.manualTripComputer = tripComputer ? new TripComputer() : null;
+    }
+
+    /**
+     * Runs the recipe once against a recording builder. The GPSNavigator
+     * it sets is shared by every product, so it must not be mutated.
+     */
+    public static Blueprint record(Consumer<? super Builder> recipe) {
+        Recorder recorder = new Recorder();
+        recipe.accept(recorder);
+        return new Blueprint(recorder);
+    }
+
+    public void apply(Builder builder) {
+        builder.setCarType(carType);
+        builder.setSeats(seats);
+        builder.setEngine(new Engine(engineVolume, engineMileage));
+        builder.setTransmission(transmission);
+        builder.setTripComputer(tripComputer ? new TripComputer() : null);
+        builder.setGPSNavigator(gpsNavigator);
+    }
+
+    public Car newCar() {
+        return new Car(carType, seats, new Engine(engineVolume, engineMileage), transmission,
+                tripComputer ? new TripComputer() : null, gpsNavigator);
+    }
+
+    public Manual newManual() {
+        return new Manual(carType, seats, manualEngine, transmission, manualTripComputer, gpsNavigator);
+    }
+
+    public CarType getCarType() {
+        return carType;
+    }
+
+    private static final class Recorder implements Builder {
+        private CarType type;
+        private int seats;
+        private Engine engine;
+        private Transmission transmission;
+        private TripComputer tripComputer;
+        private GPSNavigator gpsNavigator;
+
+        @Override
+        public void setCarType(CarType type) {
+            this.type = type;
+        }
+
+        @Override
+        public void setSeats(int seats) {
+            this.seats = seats;
+        }
+
+        @Override
+        public void setEngine(Engine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public void setTransmission(Transmission transmission) {
+            this.transmission = transmission;
+        }
+
+        @Override
+        public void setTripComputer(TripComputer tripComputer) {
+            this.tripComputer = tripComputer;
+        }
+
+        @Override
+        public void setGPSNavigator(GPSNavigator gpsNavigator) {
+            this.gpsNavigator = gpsNavigator;
+        }
+
+        @Override
+        public void reset() {
+            type = null;
+            seats = 0;
+            engine = null;
+            transmission = null;
+            tripComputer = null;
+            gpsNavigator = null;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package director;
 
+import java.util.Arrays;
+
 import builders.Builder;
+import cars.Car;
 import cars.CarType;
+import cars.Manual;
 import components.Engine;
 import components.GPSNavigator;
 import components.Transmission;
@@ -13,6 +17,9 @@ import components.TripComputer;
  * not what product is being built.
  */
 public class Director {
+    private final Blueprint sportsCar = Blueprint.record(this::constructSportsCar);
+    private final Blueprint cityCar = Blueprint.record(this::constructCityCar);
+    private final Blueprint suv = Blueprint.record(this::constructSUV);
     
     public void constructSportsCar(Builder builder) {
         builder.setCarType(CarType.SPORTS_CAR);
@@ -20,7 +27,7 @@ public class Director {
         builder.setEngine(new Engine(3.0, 0));
         builder.setTransmission(Transmission.SEMI_AUTOMATIC);
         builder.setTripComputer(new TripComputer());
-        builder.setGPSNavigator(new GPSNavigator());
+        builder.setGPSNavigator(GPSNavigator.DEFAULT);
     }
     
     public void constructCityCar(Builder builder) {
@@ -29,7 +36,7 @@ public class Director {
         builder.setEngine(new Engine(1.2, 0));
         builder.setTransmission(Transmission.AUTOMATIC);
         builder.setTripComputer(new TripComputer());
-        builder.setGPSNavigator(new GPSNavigator());
+        builder.setGPSNavigator(GPSNavigator.DEFAULT);
     }
     
     public void constructSUV(Builder builder) {
@@ -37,6 +44,34 @@ public class Director {
         builder.setSeats(4);
         builder.setEngine(new Engine(2.5, 0));
         builder.setTransmission(Transmission.MANUAL);
-        builder.setGPSNavigator(new GPSNavigator());
+        builder.setGPSNavigator(GPSNavigator.DEFAULT);
+    }
+
+    public Blueprint sportsCarBlueprint() {
+        return sportsCar;
+    }
+
+    public Blueprint cityCarBlueprint() {
+        return cityCar;
+    }
+
+    public Blueprint suvBlueprint() {
+        return suv;
+    }
+
+    /**
+     * Mass-produces cars from a blueprint across all cores. Every car gets
+     * its own Engine and TripComputer; immutable parts are shared.
+     */
+    public Car[] constructBatch(Blueprint blueprint, int count) {
+        Car[] cars = new Car[count];
+        Arrays.parallelSetAll(cars, i -> blueprint.newCar());
+        return cars;
+    }
+
+    public Manual[] constructManualBatch(Blueprint blueprint, int count) {
+        Manual[] manuals = new Manual[count];
+        Arrays.parallelSetAll(manuals, i -> blueprint.newManual());
+        return manuals;
     }
 }
@@ -0,0 +1,124 @@
+package export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import cars.Manual;
+
+/**
+ * Streams many manuals into one UTF-8 file. Manuals are rendered into a
+ * reused StringBuilder, encoded in chunks into a heap buffer (the UTF-8
+ * encoder only takes its array fast path on heap buffers) and written
+ * to a FileChannel, so no String is built per manual.
+ */
+public class ManualExporter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private final FileChannel channel;
+    private final StringBuilder text = new StringBuilder(CHUNK_SIZE + 512);
+    private final CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private long manualsWritten;
+    private long bytesWritten;
+    private boolean closed;
+
+    public ManualExporter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    public static long export(Iterable<Manual> manuals, Path path) throws IOException {
+        ManualExporter exporter = new ManualExporter(path);
+        try (exporter) {
+            for (Manual manual : manuals) {
+                exporter.write(manual);
+            }
+        }
+        return exporter.getBytesWritten();
+    }
+
+    public void write(Manual manual) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Exporter is closed");
+        }
+        manual.print(text);
+        text.append('\n');
+        manualsWritten++;
+        if (text.length() >= CHUNK_SIZE) {
+            drain();
+        }
+    }
+
+    public long getManualsWritten() {
+        return manualsWritten;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            drain();
+            chars.flip();
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            writeBytes();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        int length = text.length();
+        int from = 0;
+        while (from < length) {
+            int count = Math.min(chars.remaining(), length - from);
+            text.getChars(from, from + count, chars.array(), chars.position());
+            chars.position(chars.position() + count);
+            from += count;
+            chars.flip();
+            encode(false);
+            // keeps a trailing high surrogate for the next chunk
+            chars.compact();
+        }
+        text.setLength(0);
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            if (result.isUnderflow()) return;
+            if (result.isOverflow()) {
+                writeBytes();
+            } else {
+                result.throwException();
+            }
+        }
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            bytesWritten += channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package fleet;
+
+import cars.CarType;
+import components.Transmission;
+
+/**
+ * Immutable predicate over FleetStore records. Conditions on the packed
+ * attributes compile into one mask/value test on the packed long.
+ */
+public final class FleetFilter {
+    private static final FleetFilter ALL = new FleetFilter(0, 0,
+            Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+    final long mask;
+    final long value;
+    final double minFuel;
+    final double maxFuel;
+    final double minMileage;
+    final double maxMileage;
+
+    private FleetFilter(long mask, long value, double minFuel, double maxFuel, double minMileage, double maxMileage) {
+        this.mask = mask;
+        this.value = value;
+        this.minFuel = minFuel;
+        this.maxFuel = maxFuel;
+        this.minMileage = minMileage;
+        this.maxMileage = maxMileage;
+    }
+
+    public static FleetFilter all() {
+        return ALL;
+    }
+
+    public FleetFilter type(CarType type) {
+        return packed(FleetStore.TYPE_MASK, type.ordinal());
+    }
+
+    public FleetFilter transmission(Transmission transmission) {
+        return packed(FleetStore.TRANSMISSION_MASK, (long) transmission.ordinal() << FleetStore.TRANSMISSION_SHIFT);
+    }
+
+    public FleetFilter seats(int seats) {
+        return packed(FleetStore.SEATS_MASK, FleetStore.seatsBits(seats));
+    }
+
+    public FleetFilter tripComputer(boolean present) {
+        return packed(FleetStore.TRIP_COMPUTER_BIT, present ? FleetStore.TRIP_COMPUTER_BIT : 0);
+    }
+
+    public FleetFilter gpsNavigator(boolean present) {
+        return packed(FleetStore.GPS_NAVIGATOR_BIT, present ? FleetStore.GPS_NAVIGATOR_BIT : 0);
+    }
+
+    /* Fuel strictly below the given level */
+    public FleetFilter fuelBelow(double level) {
+        return new FleetFilter(mask, value, minFuel, Math.min(maxFuel, Math.nextDown(level)), minMileage, maxMileage);
+    }
+
+    public FleetFilter fuelAtLeast(double level) {
+        return new FleetFilter(mask, value, Math.max(minFuel, level), maxFuel, minMileage, maxMileage);
+    }
+
+    public FleetFilter mileageAtLeast(double mileage) {
+        return new FleetFilter(mask, value, minFuel, maxFuel, Math.max(minMileage, mileage), maxMileage);
+    }
+
+    public FleetFilter mileageBelow(double mileage) {
+        return new FleetFilter(mask, value, minFuel, maxFuel, minMileage, Math.min(maxMileage, Math.nextDown(mileage)));
+    }
+
+    boolean testsFuel() {
+        return minFuel != Double.NEGATIVE_INFINITY || maxFuel != Double.POSITIVE_INFINITY;
+    }
+
+    boolean testsMileage() {
+        return minMileage != Double.NEGATIVE_INFINITY || maxMileage != Double.POSITIVE_INFINITY;
+    }
+
+    private FleetFilter packed(long fieldMask, long fieldValue) {
+        if ((mask & fieldMask) != 0 && (value & fieldMask) != fieldValue) {
+            throw new IllegalArgumentException("Filter already requires a different value for this attribute");
+        }
+        return new FleetFilter(mask | fieldMask, value | fieldValue, minFuel, maxFuel, minMileage, maxMileage);
+    }
+}
@@ -0,0 +1,348 @@
+package fleet;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import cars.Car;
+import cars.CarType;
+import components.Transmission;
+
+/**
+ * Column store for a fleet of cars in a memory-mapped file, so fleets
+ * larger than the heap can be scanned. Car type, transmission, seats and
+ * component presence are packed into one long per car; engine volume,
+ * mileage and fuel are double columns.
+ *
+ * The file is a 64-byte header followed by segments of a power-of-two
+ * number of cars. Each segment holds its four columns one after another,
+ * and is mapped on its own, which keeps every mapping below 2 GB.
+ * Appends need a single writer; scans may run concurrently with it and
+ * see the cars appended before they started.
+ */
+public final class FleetStore implements AutoCloseable {
+    public static final int DEFAULT_SEGMENT_CARS = 1 << 24;
+
+    static final int TRANSMISSION_SHIFT = 4;
+    static final int SEATS_SHIFT = 8;
+    static final long TYPE_MASK = 0xFL;
+    static final long TRANSMISSION_MASK = 0xFL << TRANSMISSION_SHIFT;
+    static final long SEATS_MASK = 0xFFL << SEATS_SHIFT;
+    static final long TRIP_COMPUTER_BIT = 1L << 16;
+    static final long GPS_NAVIGATOR_BIT = 1L << 17;
+
+    private static final int MAGIC = 0x464C4554;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int COLUMNS = 4;
+    private static final int SCAN_CHUNK = 1 << 16;
+    private static final CarType[] CAR_TYPES = CarType.values();
+    private static final Transmission[] TRANSMISSIONS = Transmission.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final long capacity;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final Segment[] segments;
+    private volatile long size;
+
+    private FleetStore(Path path, FileChannel channel, MappedByteBuffer header, long capacity, int segmentCars, long size)
+            throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.header = header;
+        this.capacity = capacity;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentCars);
+        this.segmentMask = segmentCars - 1;
+        this.size = size;
+        long segmentBytes = (long) segmentCars * Long.BYTES * COLUMNS;
+        this.segments = new Segment[(int) ((capacity + segmentCars - 1) / segmentCars)];
+        for (int s = 0; s < segments.length; s++) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + s * segmentBytes, segmentBytes);
+            segments[s] = new Segment(buffer, segmentCars);
+        }
+    }
+
+    public static FleetStore create(Path path, long capacity) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int segmentCars = capacity >= DEFAULT_SEGMENT_CARS
+                ? DEFAULT_SEGMENT_CARS
+                : (int) Math.max(64, Long.highestOneBit(capacity - 1) << 1);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putLong(8, capacity);
+            header.putInt(16, segmentCars);
+            header.putLong(24, 0);
+            return new FleetStore(path, channel, header, capacity, segmentCars, 0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static FleetStore open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a fleet store: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a fleet store or unsupported version: " + path);
+            }
+            long capacity = header.getLong(8);
+            int segmentCars = header.getInt(16);
+            long size = header.getLong(24);
+            if (Integer.bitCount(segmentCars) != 1 || size < 0 || size > capacity) {
+                throw new IOException("Corrupt fleet store header: " + path);
+            }
+            return new FleetStore(path, channel, header, capacity, segmentCars, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long append(Car car) {
+        return append(car.getCarType(), car.getSeats(), car.getTransmission(),
+                car.getTripComputer() != null, car.getGPSNavigator() != null,
+                car.getEngine().getVolume(), car.getEngine().getMileage(), car.getFuel());
+    }
+
+    public synchronized long append(CarType type, int seats, Transmission transmission, boolean tripComputer,
+                                    boolean gpsNavigator, double engineVolume, double mileage, double fuel) {
+        long car = size;
+        if (car == capacity) {
+            throw new IllegalStateException("Fleet store is full: " + capacity + " cars");
+        }
+        Segment segment = segment(car);
+        int slot = slot(car);
+        segment.packed.put(slot, pack(type, transmission, seats, tripComputer, gpsNavigator));
+        segment.volume.put(slot, engineVolume);
+        segment.mileage.put(slot, mileage);
+        segment.fuel.put(slot, fuel);
+        header.putLong(24, car + 1);
+        size = car + 1;
+        return car;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public CarType getCarType(long car) {
+        return CAR_TYPES[(int) (packed(car) & TYPE_MASK)];
+    }
+
+    public Transmission getTransmission(long car) {
+        return TRANSMISSIONS[(int) ((packed(car) & TRANSMISSION_MASK) >>> TRANSMISSION_SHIFT)];
+    }
+
+    public int getSeats(long car) {
+        return (int) ((packed(car) & SEATS_MASK) >>> SEATS_SHIFT);
+    }
+
+    public boolean hasTripComputer(long car) {
+        return (packed(car) & TRIP_COMPUTER_BIT) != 0;
+    }
+
+    public boolean hasGPSNavigator(long car) {
+        return (packed(car) & GPS_NAVIGATOR_BIT) != 0;
+    }
+
+    public double getEngineVolume(long car) {
+        checkCar(car);
+        return segment(car).volume.get(slot(car));
+    }
+
+    public double getMileage(long car) {
+        checkCar(car);
+        return segment(car).mileage.get(slot(car));
+    }
+
+    public void setMileage(long car, double mileage) {
+        checkCar(car);
+        segment(car).mileage.put(slot(car), mileage);
+    }
+
+    public double getFuel(long car) {
+        checkCar(car);
+        return segment(car).fuel.get(slot(car));
+    }
+
+    public void setFuel(long car, double fuel) {
+        checkCar(car);
+        segment(car).fuel.put(slot(car), fuel);
+    }
+
+    /**
+     * Counts matching cars, scanning chunks of the file in parallel.
+     */
+    public long count(FleetFilter filter) {
+        long end = size;
+        return IntStream.range(0, chunks(end)).parallel()
+                .mapToLong(chunk -> scan(chunk, end, filter, null))
+                .sum();
+    }
+
+    /**
+     * Indexes of the matching cars in ascending order. Each chunk is
+     * scanned once, in parallel, into its own buffer, so concurrent
+     * setFuel/setMileage calls can change which cars match but never
+     * the shape of the result.
+     */
+    public long[] select(FleetFilter filter) {
+        long end = size;
+        long[][] parts = IntStream.range(0, chunks(end)).parallel()
+                .mapToObj(chunk -> {
+                    LongStream.Builder matches = LongStream.builder();
+                    scan(chunk, end, filter, matches);
+                    return matches.build().toArray();
+                })
+                .toArray(long[][]::new);
+        long total = 0;
+        for (long[] part : parts) {
+            total += part.length;
+        }
+        long[] result = new long[Math.toIntExact(total)];
+        int position = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, result, position, part.length);
+            position += part.length;
+        }
+        return result;
+    }
+
+    public void forEach(FleetFilter filter, LongConsumer action) {
+        long end = size;
+        for (int chunk = 0, chunks = chunks(end); chunk < chunks; chunk++) {
+            scan(chunk, end, filter, action);
+        }
+    }
+
+    public synchronized void force() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+        header.force();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    static long pack(CarType type, Transmission transmission, int seats, boolean tripComputer, boolean gpsNavigator) {
+        return type.ordinal()
+                | (long) transmission.ordinal() << TRANSMISSION_SHIFT
+                | seatsBits(seats)
+                | (tripComputer ? TRIP_COMPUTER_BIT : 0)
+                | (gpsNavigator ? GPS_NAVIGATOR_BIT : 0);
+    }
+
+    static long seatsBits(int seats) {
+        if (seats < 0 || seats > 0xFF) {
+            throw new IllegalArgumentException("Seats must be between 0 and 255: " + seats);
+        }
+        return (long) seats << SEATS_SHIFT;
+    }
+
+    /* Scans one chunk; counts the matches, and also reports them when action is not null */
+    private long scan(int chunk, long end, FleetFilter filter, LongConsumer action) {
+        long first = (long) chunk * SCAN_CHUNK;
+        Segment segment = segment(first);
+        int from = slot(first);
+        int to = from + (int) Math.min(SCAN_CHUNK, end - first);
+        LongBuffer packed = segment.packed;
+        DoubleBuffer fuel = segment.fuel;
+        DoubleBuffer mileage = segment.mileage;
+        long mask = filter.mask;
+        long value = filter.value;
+        boolean testFuel = filter.testsFuel();
+        boolean testMileage = filter.testsMileage();
+        double minFuel = filter.minFuel;
+        double maxFuel = filter.maxFuel;
+        double minMileage = filter.minMileage;
+        double maxMileage = filter.maxMileage;
+        long matches = 0;
+        for (int slot = from; slot < to; slot++) {
+            if ((packed.get(slot) & mask) != value) continue;
+            if (testFuel) {
+                double level = fuel.get(slot);
+                if (!(level >= minFuel && level <= maxFuel)) continue;
+            }
+            if (testMileage) {
+                double driven = mileage.get(slot);
+                if (!(driven >= minMileage && driven <= maxMileage)) continue;
+            }
+            matches++;
+            if (action != null) action.accept(first + slot - from);
+        }
+        return matches;
+    }
+
+    private int chunks(long end) {
+        return Math.toIntExact((end + SCAN_CHUNK - 1) / SCAN_CHUNK);
+    }
+
+    private long packed(long car) {
+        checkCar(car);
+        return segment(car).packed.get(slot(car));
+    }
+
+    private void checkCar(long car) {
+        if (car < 0 || car >= size) {
+            throw new IndexOutOfBoundsException("Car " + car + " out of bounds for fleet of " + size);
+        }
+    }
+
+    private Segment segment(long car) {
+        return segments[(int) (car >>> segmentShift)];
+    }
+
+    private int slot(long car) {
+        return (int) (car & segmentMask);
+    }
+
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final LongBuffer packed;
+        private final DoubleBuffer volume;
+        private final DoubleBuffer mileage;
+        private final DoubleBuffer fuel;
+
+        private Segment(MappedByteBuffer buffer, int cars) {
+            this.buffer = buffer;
+            int columnBytes = cars * Long.BYTES;
+            this.packed = buffer.slice(0, columnBytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            this.volume = buffer.slice(columnBytes, columnBytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            this.mileage = buffer.slice(2 * columnBytes, columnBytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            this.fuel = buffer.slice(3 * columnBytes, columnBytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+    }
+}
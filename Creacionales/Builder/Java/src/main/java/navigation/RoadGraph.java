@@ -0,0 +1,129 @@
+package navigation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Directed road graph in compressed sparse row form: the edges leaving
+ * node n are targets[offsets[n]] to targets[offsets[n + 1] - 1].
+ */
+public final class RoadGraph {
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] lengths;
+
+    private RoadGraph(int[] offsets, int[] targets, double[] lengths) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.lengths = lengths;
+    }
+
+    /**
+     * Builds the graph from parallel edge arrays. Two-way roads need one
+     * edge in each direction.
+     */
+    public static RoadGraph of(int nodeCount, int[] from, int[] to, double[] length, int edgeCount) {
+        if (from.length < edgeCount || to.length < edgeCount || length.length < edgeCount) {
+            throw new IllegalArgumentException("Edge arrays are shorter than " + edgeCount);
+        }
+        int[] offsets = new int[nodeCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            checkNode(from[e], nodeCount);
+            checkNode(to[e], nodeCount);
+            if (!(length[e] >= 0)) {
+                throw new IllegalArgumentException("Edge " + e + " has an invalid length: " + length[e]);
+            }
+            offsets[from[e] + 1]++;
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            offsets[n + 1] += offsets[n];
+        }
+        int[] next = Arrays.copyOf(offsets, nodeCount);
+        int[] targets = new int[edgeCount];
+        double[] lengths = new double[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = next[from[e]]++;
+            targets[slot] = to[e];
+            lengths[slot] = length[e];
+        }
+        return new RoadGraph(offsets, targets, lengths);
+    }
+
+    /**
+     * Reads an edge list with one "from to length" road per line. Blank
+     * lines and lines starting with # are skipped; node ids start at 0.
+     */
+    public static RoadGraph load(Path path) throws IOException {
+        int[] from = new int[1024];
+        int[] to = new int[1024];
+        double[] length = new double[1024];
+        int edges = 0;
+        int maxNode = -1;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] fields = line.split("\\s+");
+                if (fields.length != 3) {
+                    throw new IOException(path + ":" + lineNumber + ": expected \"from to length\"");
+                }
+                if (edges == from.length) {
+                    from = Arrays.copyOf(from, edges * 2);
+                    to = Arrays.copyOf(to, edges * 2);
+                    length = Arrays.copyOf(length, edges * 2);
+                }
+                try {
+                    from[edges] = Integer.parseInt(fields[0]);
+                    to[edges] = Integer.parseInt(fields[1]);
+                    length[edges] = Double.parseDouble(fields[2]);
+                } catch (NumberFormatException e) {
+                    throw new IOException(path + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+                maxNode = Math.max(maxNode, Math.max(from[edges], to[edges]));
+                edges++;
+            }
+        }
+        return of(maxNode + 1, from, to, length, edges);
+    }
+
+    public int nodeCount() {
+        return offsets.length - 1;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    int endEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    int target(int edge) {
+        return targets[edge];
+    }
+
+    double length(int edge) {
+        return lengths[edge];
+    }
+
+    void checkNode(int node) {
+        checkNode(node, nodeCount());
+    }
+
+    private static void checkNode(int node, int nodeCount) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException("Unknown node " + node + ", graph has " + nodeCount + " nodes");
+        }
+    }
+}
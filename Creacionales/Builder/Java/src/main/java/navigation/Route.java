@@ -0,0 +1,54 @@
+package navigation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable shortest route between two nodes.
+ */
+public final class Route {
+    private final int[] nodes;
+    private final double length;
+
+    Route(int[] nodes, double length) {
+        this.nodes = nodes;
+        this.length = length;
+    }
+
+    public int getOrigin() {
+        return nodes[0];
+    }
+
+    public int getDestination() {
+        return nodes[nodes.length - 1];
+    }
+
+    public int[] getNodes() {
+        return nodes.clone();
+    }
+
+    public double getLength() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder route = new StringBuilder();
+        for (int i = 0; i < nodes.length; i++) {
+            if (i > 0) route.append(" -> ");
+            route.append(nodes[i]);
+        }
+        return route.append(" (").append(length).append(')').toString();
+    }
+
+    @Override
+    public boolean equals(Object obj2) {
+        if (!(obj2 instanceof Route)) return false;
+        Route route2 = (Route) obj2;
+        return length == route2.length && Arrays.equals(nodes, route2.nodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(nodes) + Double.hashCode(length);
+    }
+}
@@ -0,0 +1,81 @@
+package navigation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of routes keyed by origin and destination. Unreachable
+ * pairs are cached too, as empty results.
+ */
+public class RouteCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final int maximumSize;
+    private final Map<Long, Optional<Route>> routes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    RouteCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.routes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Optional<Route>> eldest) {
+                return size() > RouteCache.this.maximumSize;
+            }
+        };
+    }
+
+    /* The route is computed outside the lock; two threads missing on the
+    same pair may both compute it, and the results are identical */
+    Optional<Route> get(int origin, int destination, Supplier<Optional<Route>> planner) {
+        Long key = key(origin, destination);
+        Optional<Route> route;
+        synchronized (routes) {
+            route = routes.get(key);
+        }
+        if (route != null) {
+            hits.increment();
+            return route;
+        }
+        misses.increment();
+        route = planner.get();
+        synchronized (routes) {
+            routes.put(key, route);
+        }
+        return route;
+    }
+
+    public int size() {
+        synchronized (routes) {
+            return routes.size();
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private static long key(int origin, int destination) {
+        return ((long) origin << 32) | (destination & 0xFFFFFFFFL);
+    }
+}
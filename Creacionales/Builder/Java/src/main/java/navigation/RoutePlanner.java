@@ -0,0 +1,168 @@
+package navigation;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Shortest routes over a RoadGraph with Dijkstra's algorithm, served
+ * through a RouteCache. Search state lives in per-thread arrays that are
+ * reset lazily with a generation stamp, so a query costs no O(nodes)
+ * allocation or clearing.
+ */
+public class RoutePlanner {
+    private final RoadGraph graph;
+    private final RouteCache cache;
+    private final ThreadLocal<Workspace> workspaces;
+
+    public RoutePlanner(RoadGraph graph) {
+        this(graph, RouteCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /* Cached routes are keyed by node ids of this graph only, so every
+    planner owns its cache */
+    public RoutePlanner(RoadGraph graph, int cacheSize) {
+        this.graph = graph;
+        this.cache = new RouteCache(cacheSize);
+        this.workspaces = ThreadLocal.withInitial(() -> new Workspace(graph.nodeCount()));
+    }
+
+    public Optional<Route> findRoute(int origin, int destination) {
+        graph.checkNode(origin);
+        graph.checkNode(destination);
+        return cache.get(origin, destination, () -> search(origin, destination));
+    }
+
+    public Optional<Route> findRouteUncached(int origin, int destination) {
+        graph.checkNode(origin);
+        graph.checkNode(destination);
+        return search(origin, destination);
+    }
+
+    public RoadGraph getGraph() {
+        return graph;
+    }
+
+    public RouteCache getCache() {
+        return cache;
+    }
+
+    private Optional<Route> search(int origin, int destination) {
+        Workspace w = workspaces.get();
+        w.begin();
+        w.reach(origin, 0, -1);
+        while (w.heapSize > 0) {
+            int node = w.pop();
+            if (node == destination) {
+                return Optional.of(w.route(origin, destination));
+            }
+            double distance = w.distance[node];
+            for (int edge = graph.firstEdge(node), end = graph.endEdge(node); edge < end; edge++) {
+                int target = graph.target(edge);
+                double candidate = distance + graph.length(edge);
+                if (!w.seen(target)) {
+                    w.reach(target, candidate, node);
+                } else if (candidate < w.distance[target] && w.heapIndex[target] >= 0) {
+                    w.distance[target] = candidate;
+                    w.previous[target] = node;
+                    w.siftUp(w.heapIndex[target]);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /* Indexed binary min-heap keyed by distance; heapIndex is -1 once a
+    node is settled */
+    private static final class Workspace {
+        private final double[] distance;
+        private final int[] previous;
+        private final int[] heapIndex;
+        private final int[] stamp;
+        private final int[] heap;
+        private int heapSize;
+        private int generation;
+
+        private Workspace(int nodes) {
+            distance = new double[nodes];
+            previous = new int[nodes];
+            heapIndex = new int[nodes];
+            stamp = new int[nodes];
+            heap = new int[nodes];
+        }
+
+        private void begin() {
+            heapSize = 0;
+            if (++generation == 0) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+        }
+
+        private boolean seen(int node) {
+            return stamp[node] == generation;
+        }
+
+        private void reach(int node, double d, int from) {
+            stamp[node] = generation;
+            distance[node] = d;
+            previous[node] = from;
+            heap[heapSize] = node;
+            heapIndex[node] = heapSize;
+            siftUp(heapSize++);
+        }
+
+        private int pop() {
+            int top = heap[0];
+            heapIndex[top] = -1;
+            int last = heap[--heapSize];
+            if (heapSize > 0) {
+                heap[0] = last;
+                heapIndex[last] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void siftUp(int index) {
+            int node = heap[index];
+            double d = distance[node];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                int parentNode = heap[parent];
+                if (distance[parentNode] <= d) break;
+                heap[index] = parentNode;
+                heapIndex[parentNode] = index;
+                index = parent;
+            }
+            heap[index] = node;
+            heapIndex[node] = index;
+        }
+
+        private void siftDown(int index) {
+            int node = heap[index];
+            double d = distance[node];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) break;
+                if (child + 1 < heapSize && distance[heap[child + 1]] < distance[heap[child]]) child++;
+                int childNode = heap[child];
+                if (distance[childNode] >= d) break;
+                heap[index] = childNode;
+                heapIndex[childNode] = index;
+                index = child;
+            }
+            heap[index] = node;
+            heapIndex[node] = index;
+        }
+
+        private Route route(int origin, int destination) {
+            int hops = 1;
+            for (int node = destination; node != origin; node = previous[node]) hops++;
+            int[] nodes = new int[hops];
+            for (int node = destination, i = hops - 1; i >= 0; node = previous[node], i--) {
+                nodes[i] = node;
+            }
+            return new Route(nodes, distance[destination]);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import cars.Car;
+import components.Engine;
+
+/**
+ * Simulates a whole fleet at once. The state Engine and Car keep per
+ * object (started flag, mileage, fuel, engine volume) lives here in one
+ * primitive array per field, and every tick advances the fleet in
+ * parallel chunks.
+ */
+public class FleetSimulation {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+    public static final double DEFAULT_LOW_FUEL_LEVEL = 10;
+    /* Litres burnt per km for each litre of engine volume */
+    public static final double FUEL_PER_KM_PER_LITRE = 0.03;
+
+    private final boolean[] started;
+    private final double[] mileage;
+    private final double[] fuel;
+    private final double[] volume;
+    private final ForkJoinPool pool;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private double lowFuelLevel = DEFAULT_LOW_FUEL_LEVEL;
+    private long ticks;
+
+    public FleetSimulation(int size) {
+        this(size, ForkJoinPool.commonPool());
+    }
+
+    public FleetSimulation(int size, ForkJoinPool pool) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Fleet size must not be negative: " + size);
+        }
+        this.started = new boolean[size];
+        this.mileage = new double[size];
+        this.fuel = new double[size];
+        this.volume = new double[size];
+        this.pool = pool;
+    }
+
+    public static FleetSimulation of(Car... cars) {
+        FleetSimulation simulation = new FleetSimulation(cars.length);
+        for (int i = 0; i < cars.length; i++) {
+            Engine engine = cars[i].getEngine();
+            simulation.setEngine(i, engine.getVolume(), engine.getMileage());
+            simulation.started[i] = engine.isStarted();
+            simulation.fuel[i] = cars[i].getFuel();
+        }
+        return simulation;
+    }
+
+    public int size() {
+        return started.length;
+    }
+
+    public void setEngine(int car, double volume, double mileage) {
+        this.volume[car] = volume;
+        this.mileage[car] = mileage;
+    }
+
+    public void on(int car) {
+        started[car] = true;
+    }
+
+    public void off(int car) {
+        started[car] = false;
+    }
+
+    public void setFuel(int car, double fuel) {
+        this.fuel[car] = fuel;
+    }
+
+    public boolean isStarted(int car) {
+        return started[car];
+    }
+
+    public double getMileage(int car) {
+        return mileage[car];
+    }
+
+    public double getFuel(int car) {
+        return fuel[car];
+    }
+
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public void setLowFuelLevel(double lowFuelLevel) {
+        this.lowFuelLevel = lowFuelLevel;
+    }
+
+    /**
+     * Every started car drives the given distance, or as far as its fuel
+     * lasts, in which case its engine stops.
+     */
+    public TickReport tick(double distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException("Distance must not be negative: " + distance);
+        }
+        Totals totals = size() <= chunkSize
+                ? advance(0, size(), distance)
+                : pool.invoke(new TickTask(0, size(), distance));
+        return new TickReport(++ticks, totals.mileage, totals.running, totals.lowFuel);
+    }
+
+    private Totals advance(int from, int to, double distance) {
+        boolean[] started = this.started;
+        double[] mileage = this.mileage;
+        double[] fuel = this.fuel;
+        double[] volume = this.volume;
+        double lowFuelLevel = this.lowFuelLevel;
+        double totalMileage = 0;
+        int running = 0;
+        int lowFuel = 0;
+        for (int i = from; i < to; i++) {
+            double left = fuel[i];
+            if (started[i]) {
+                double burnPerKm = volume[i] * FUEL_PER_KM_PER_LITRE;
+                double driven = burnPerKm > 0 ? Math.min(distance, left / burnPerKm) : distance;
+                left -= driven * burnPerKm;
+                if (left <= 0) {
+                    left = 0;
+                    started[i] = false;
+                } else {
+                    running++;
+                }
+                mileage[i] += driven;
+                fuel[i] = left;
+            }
+            totalMileage += mileage[i];
+            if (left < lowFuelLevel) lowFuel++;
+        }
+        return new Totals(totalMileage, running, lowFuel);
+    }
+
+    private static final class Totals {
+        private final double mileage;
+        private final int running;
+        private final int lowFuel;
+
+        private Totals(double mileage, int running, int lowFuel) {
+            this.mileage = mileage;
+            this.running = running;
+            this.lowFuel = lowFuel;
+        }
+
+        private Totals plus(Totals other) {
+            return new Totals(mileage + other.mileage, running + other.running, lowFuel + other.lowFuel);
+        }
+    }
+
+    private final class TickTask extends RecursiveTask<Totals> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final double distance;
+
+        private TickTask(int from, int to, double distance) {
+            this.from = from;
+            this.to = to;
+            this.distance = distance;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= chunkSize) {
+                return advance(from, to, distance);
+            }
+            int middle = (from + to) >>> 1;
+            TickTask left = new TickTask(from, middle, distance);
+            left.fork();
+            Totals right = new TickTask(middle, to, distance).compute();
+            return left.join().plus(right);
+        }
+    }
+}
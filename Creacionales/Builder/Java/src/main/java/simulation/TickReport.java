@@ -0,0 +1,40 @@
+package simulation;
+
+/**
+ * Fleet aggregates after one simulation tick.
+ */
+public final class TickReport {
+    private final long tick;
+    private final double totalMileage;
+    private final int runningCars;
+    private final int lowFuelCars;
+
+    TickReport(long tick, double totalMileage, int runningCars, int lowFuelCars) {
+        this.tick = tick;
+        this.totalMileage = totalMileage;
+        this.runningCars = runningCars;
+        this.lowFuelCars = lowFuelCars;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public double getTotalMileage() {
+        return totalMileage;
+    }
+
+    public int getRunningCars() {
+        return runningCars;
+    }
+
+    public int getLowFuelCars() {
+        return lowFuelCars;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("tick %d: total mileage %.1f, %d running, %d low on fuel",
+                tick, totalMileage, runningCars, lowFuelCars);
+    }
+}
@@ -0,0 +1,94 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Bench {
+
+    public interface Operation {
+        long run(int iteration);
+    }
+
+    public interface Producer {
+        Object run(int iteration);
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile long sink;
+    private static volatile Object escaped;
+
+    private Bench() {}
+
+    public static void measure(String name, int operations, Operation operation) {
+        for (int round = 0; round < 5; round++) {
+            loop(operations / 5, operation);
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        loop(operations, operation);
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.printf("%-45s %10.2f ns/op %10.2f B/op%n",
+                name, (double) elapsed / operations, (double) allocated / operations);
+    }
+
+    public static void throughput(String name, int threads, int operationsPerThread, Producer operation)
+            throws InterruptedException {
+        retain(operationsPerThread / 5, operation);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder allocated = new LongAdder();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long threadId = Thread.currentThread().getId();
+                long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+                retain(operationsPerThread, operation);
+                allocated.add(THREADS.getThreadAllocatedBytes(threadId) - bytesBefore);
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        long operations = (long) threads * operationsPerThread;
+        System.out.printf("%-45s %3d threads %12.0f ops/s %10.2f B/op%n",
+                name, threads, operations * 1e9 / elapsed, (double) allocated.sum() / operations);
+    }
+
+    public static void consume(long value) {
+        sink += value;
+    }
+
+    public static void escape(Object value) {
+        escaped = value;
+    }
+
+    private static void loop(int operations, Operation operation) {
+        long result = 0;
+        for (int i = 0; i < operations; i++) {
+            result += operation.run(i);
+        }
+        sink += result;
+    }
+
+    private static void retain(int operations, Producer operation) {
+        Object[] retained = new Object[64];
+        for (int i = 0; i < operations; i++) {
+            retained[i & 63] = operation.run(i);
+        }
+        escaped = retained;
+    }
+}
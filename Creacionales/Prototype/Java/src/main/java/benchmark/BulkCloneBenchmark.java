@@ -0,0 +1,52 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import shapes.Circle;
+import shapes.Rectangle;
+import shapes.Shape;
+import shapes.Shapes;
+
+public class BulkCloneBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        List<Shape> scene = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if ((i & 1) == 0) {
+                Circle circle = new Circle();
+                circle.x = i;
+                circle.radius = i % 50;
+                circle.color = "red";
+                scene.add(circle);
+            } else {
+                Rectangle rectangle = new Rectangle();
+                rectangle.y = i;
+                rectangle.width = i % 30;
+                rectangle.height = i % 40;
+                rectangle.color = "blue";
+                scene.add(rectangle);
+            }
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            List<Shape> sequential = new ArrayList<>();
+            scene.forEach(shape -> sequential.add(shape.clone()));
+            long sequentialNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Shape> parallel = Shapes.cloneAll(scene);
+            long parallelNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int invalid = Shapes.findInvalidCopy(scene, parallel);
+            long verifyNanos = System.nanoTime() - start;
+
+            System.out.printf("round %d: forEach clone %d ms, cloneAll %d ms, verify %d ms, invalid index %d%n",
+                    round, sequentialNanos / 1_000_000, parallelNanos / 1_000_000, verifyNanos / 1_000_000, invalid);
+            Bench.escape(sequential);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import shapes.Circle;
+
+public class CopyStrategiesBenchmark {
+
+    private static final int[] SIZES = {0, 16, 256};
+    private static final int[] THREADS = {1, 2, 4, 8};
+    private static final int OPERATIONS = 2_000_000;
+    private static final int SERIALIZATION_OPERATIONS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        Circle circle = new Circle();
+        circle.x = 10;
+        circle.y = 20;
+        circle.radius = 15;
+        circle.color = "red";
+        for (int threads : THREADS) {
+            Bench.throughput("Circle copy constructor", threads, OPERATIONS, i -> circle.clone());
+        }
+
+        FieldCopier<Sprite> copier = FieldCopier.of(Sprite.class, MethodHandles.lookup());
+        for (int size : SIZES) {
+            Sprite sprite = new Sprite(size);
+            System.out.println();
+            System.out.println("Sprite with " + size + " points");
+            for (int threads : THREADS) {
+                Bench.throughput("copy constructor", threads, OPERATIONS, i -> new Sprite(sprite));
+                Bench.throughput("Object.clone() (clonar)", threads, OPERATIONS, i -> sprite.clonar());
+                Bench.throughput("MethodHandle field copier", threads, OPERATIONS, i -> copier.copy(sprite));
+                Bench.throughput("serialization deep copy", threads, SERIALIZATION_OPERATIONS, i -> serialCopy(sprite));
+            }
+        }
+    }
+
+    private static Object serialCopy(Serializable source) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(source);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return in.readObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Sprite implements Cloneable, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        int x;
+        int y;
+        int radius;
+        String color;
+        int[] points;
+
+        public Sprite() {}
+
+        Sprite(int size) {
+            x = 10;
+            y = 20;
+            radius = 15;
+            color = "red";
+            points = new int[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = i;
+            }
+        }
+
+        Sprite(Sprite target) {
+            x = target.x;
+            y = target.y;
+            radius = target.radius;
+            color = target.color;
+            points = target.points.clone();
+        }
+
+        Sprite clonar() {
+            Sprite copy = null;
+            try {
+                copy = (Sprite) clone();
+                copy.points = points.clone();
+            } catch (CloneNotSupportedException e) {
+                e.printStackTrace();
+            }
+            return copy;
+        }
+    }
+
+    static final class FieldCopier<T> {
+        private static final MethodHandle INT_ARRAY_COPY;
+
+        static {
+            try {
+                INT_ARRAY_COPY = MethodHandles.lookup()
+                        .findStatic(FieldCopier.class, "copyOf", MethodType.methodType(int[].class, int[].class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final MethodHandle constructor;
+        private final MethodHandle[] copiers;
+
+        private FieldCopier(MethodHandle constructor, MethodHandle[] copiers) {
+            this.constructor = constructor;
+            this.copiers = copiers;
+        }
+
+        static <T> FieldCopier<T> of(Class<T> type, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+            List<MethodHandle> copiers = new ArrayList<>();
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+                    MethodHandle getter = lookup.unreflectGetter(field);
+                    MethodHandle setter = lookup.unreflectSetter(field);
+                    if (field.getType() == int[].class) {
+                        getter = MethodHandles.filterReturnValue(getter, INT_ARRAY_COPY);
+                    }
+                    // copy(target, source) -> target.field = source.field
+                    MethodHandle copier = MethodHandles.filterArguments(setter, 1, getter);
+                    copiers.add(copier.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+                }
+            }
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            return new FieldCopier<>(constructor, copiers.toArray(new MethodHandle[0]));
+        }
+
+        private static int[] copyOf(int[] values) {
+            return values == null ? null : values.clone();
+        }
+
+        @SuppressWarnings("unchecked")
+        T copy(T source) {
+            try {
+                Object copy = constructor.invokeExact();
+                for (MethodHandle copier : copiers) {
+                    copier.invokeExact(copy, (Object) source);
+                }
+                return (T) copy;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot copy " + source.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import shapes.Circle;
+import shapes.ImmutableShape;
+import shapes.Rectangle;
+import shapes.Shape;
+import shapes.ShapeInterner;
+
+public class InternerReport {
+
+    private static final String[] COLORS = {"red", "green", "blue", "black"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int distinct = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+
+        List<ImmutableShape> scene = new ArrayList<>(count);
+        long before = usedHeap();
+        for (int i = 0; i < count; i++) {
+            scene.add(syntheticShape(i % distinct));
+        }
+        long withDuplicates = usedHeap() - before;
+
+        ShapeInterner interner = new ShapeInterner();
+        scene.replaceAll(interner::intern);
+        long interned = usedHeap() - before;
+
+        System.out.printf("shapes: %d, canonical instances: %d%n", scene.size(), interner.size());
+        System.out.printf("scene with duplicates: %.1f MB%n", withDuplicates / 1e6);
+        System.out.printf("scene after interning: %.1f MB%n", interned / 1e6);
+        System.out.printf("memory saved: %.1f MB (%.1f%%)%n",
+                (withDuplicates - interned) / 1e6, 100.0 * (withDuplicates - interned) / withDuplicates);
+        Bench.escape(scene);
+    }
+
+    private static ImmutableShape syntheticShape(int variant) {
+        Shape shape;
+        if (variant % 2 == 0) {
+            Circle circle = new Circle();
+            circle.radius = variant % 17;
+            shape = circle;
+        } else {
+            Rectangle rectangle = new Rectangle();
+            rectangle.width = variant % 13;
+            rectangle.height = variant % 11;
+            shape = rectangle;
+        }
+        shape.x = variant;
+        shape.y = variant / 2;
+        shape.color = COLORS[variant % COLORS.length];
+        return ImmutableShape.of(shape);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,32 @@
+package benchmark;
+
+import cache.BundledShapeCache;
+import shapes.Circle;
+import shapes.ImmutableShape;
+
+public class SharedPrototypeBenchmark {
+
+    private static final int OPERATIONS = 20_000_000;
+
+    public static void main(String[] args) {
+        BundledShapeCache cache = new BundledShapeCache();
+        String key = "Big green circle";
+
+        Bench.measure("clone() on every get", OPERATIONS, i -> {
+            Circle circle = (Circle) cache.get(key);
+            Bench.escape(circle);
+            return circle.x + circle.radius;
+        });
+        Bench.measure("shared immutable read", OPERATIONS, i -> {
+            ImmutableShape circle = cache.getShared(key);
+            Bench.escape(circle);
+            return circle.getX() + circle.getRadius();
+        });
+        Bench.measure("shared read, derive on 1% writes", OPERATIONS, i -> {
+            ImmutableShape circle = cache.getShared(key);
+            if (i % 100 == 0) circle = circle.withX(i);
+            Bench.escape(circle);
+            return circle.getX() + circle.getRadius();
+        });
+    }
+}
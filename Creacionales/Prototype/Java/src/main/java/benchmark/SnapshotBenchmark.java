@@ -0,0 +1,68 @@
+package benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import cache.BundledShapeCache;
+import cache.ShapeSnapshot;
+import shapes.Circle;
+import shapes.Rectangle;
+import shapes.Shape;
+
+public class SnapshotBenchmark {
+
+    private static final String[] COLORS = {"Red", "Green", "Blue", "Black"};
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Path file = Files.createTempFile("shapes", ".snapshot");
+        try {
+            long start = System.nanoTime();
+            BundledShapeCache cache = new BundledShapeCache(count + 2);
+            for (int i = 0; i < count; i++) {
+                cache.put("shape-" + i, syntheticShape(i));
+            }
+            System.out.printf("built %d prototypes in code: %d ms%n", cache.size(), (System.nanoTime() - start) / 1_000_000);
+
+            start = System.nanoTime();
+            ShapeSnapshot.write(cache, file);
+            System.out.printf("wrote snapshot (%.1f MB): %d ms%n", Files.size(file) / 1e6, (System.nanoTime() - start) / 1_000_000);
+
+            start = System.nanoTime();
+            BundledShapeCache loaded = ShapeSnapshot.load(file);
+            System.out.printf("cold start, mapped %d keys: %.2f ms%n", loaded.size(), (System.nanoTime() - start) / 1e6);
+
+            start = System.nanoTime();
+            Shape first = loaded.get("shape-" + (count / 2));
+            System.out.printf("first get (key table probe + decode): %d us, identical: %b%n",
+                    (System.nanoTime() - start) / 1_000, first.equals(syntheticShape(count / 2)));
+
+            int reads = Math.min(count, 100_000);
+            start = System.nanoTime();
+            for (int i = 0; i < reads; i++) {
+                Bench.escape(loaded.getShared("shape-" + (int) ((i * 2_654_435_761L) % count)));
+            }
+            System.out.printf("%d first reads from the mapping: %.2f us/get%n", reads, (System.nanoTime() - start) / 1e3 / reads);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Shape syntheticShape(int i) {
+        Shape shape;
+        if (i % 2 == 0) {
+            Circle circle = new Circle();
+            circle.radius = i % 97;
+            shape = circle;
+        } else {
+            Rectangle rectangle = new Rectangle();
+            rectangle.width = i % 31;
+            rectangle.height = i % 37;
+            shape = rectangle;
+        }
+        shape.x = i;
+        shape.y = -i;
+        shape.color = COLORS[i % COLORS.length];
+        return shape;
+    }
+}
@@ -0,0 +1,96 @@
+package benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+import shapes.Circle;
+import shapes.Rectangle;
+import shapes.Shape;
+import spatial.Bounds;
+import spatial.GridIndex;
+
+public class SpatialIndexBenchmark {
+
+    private static final int WORLD = 1_000_000;
+    private static final int QUERIES = 1_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(42);
+        Bounds[] bounds = new Bounds[count];
+        GridIndex<Integer> index = new GridIndex<>(1_024);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            bounds[i] = Bounds.of(randomShape(random));
+            index.insert(i, bounds[i]);
+        }
+        System.out.printf("indexed %d shapes in %d ms%n", count, (System.nanoTime() - start) / 1_000_000);
+
+        int[][] viewports = new int[QUERIES][];
+        for (int q = 0; q < QUERIES; q++) {
+            int x = random.nextInt(WORLD);
+            int y = random.nextInt(WORLD);
+            viewports[q] = new int[] {x, y, x + 10_000, y + 10_000};
+        }
+
+        long indexedHits = 0;
+        start = System.nanoTime();
+        for (int[] v : viewports) {
+            List<Integer> keys = index.query(v[0], v[1], v[2], v[3]);
+            indexedHits += keys.size();
+        }
+        long indexedNanos = System.nanoTime() - start;
+
+        long scannedHits = 0;
+        start = System.nanoTime();
+        for (int[] v : viewports) {
+            for (Bounds b : bounds) {
+                if (b.intersects(v[0], v[1], v[2], v[3])) scannedHits++;
+            }
+        }
+        long scanNanos = System.nanoTime() - start;
+        System.out.printf("range query: grid %.1f us/query, linear scan %.1f us/query (hits %d vs %d)%n",
+                indexedNanos / 1e3 / QUERIES, scanNanos / 1e3 / QUERIES, indexedHits, scannedHits);
+
+        int[][] points = new int[QUERIES][];
+        for (int q = 0; q < QUERIES; q++) {
+            points[q] = new int[] {random.nextInt(WORLD), random.nextInt(WORLD)};
+        }
+
+        Integer[] nearest = new Integer[QUERIES];
+        start = System.nanoTime();
+        for (int q = 0; q < QUERIES; q++) {
+            nearest[q] = index.nearest(points[q][0], points[q][1]);
+        }
+        long nearestNanos = System.nanoTime() - start;
+
+        int mismatches = 0;
+        start = System.nanoTime();
+        for (int q = 0; q < QUERIES; q++) {
+            long best = Long.MAX_VALUE;
+            for (Bounds b : bounds) best = Math.min(best, b.distanceSquared(points[q][0], points[q][1]));
+            if (bounds[nearest[q]].distanceSquared(points[q][0], points[q][1]) != best) mismatches++;
+        }
+        long nearestScanNanos = System.nanoTime() - start;
+        System.out.printf("nearest neighbour: grid %.1f us/query, linear scan %.1f us/query, mismatches %d%n",
+                nearestNanos / 1e3 / QUERIES, nearestScanNanos / 1e3 / QUERIES, mismatches);
+    }
+
+    private static Shape randomShape(Random random) {
+        Shape shape;
+        if (random.nextBoolean()) {
+            Circle circle = new Circle();
+            circle.radius = random.nextInt(200);
+            shape = circle;
+        } else {
+            Rectangle rectangle = new Rectangle();
+            rectangle.width = random.nextInt(400);
+            rectangle.height = random.nextInt(400);
+            shape = rectangle;
+        }
+        shape.x = random.nextInt(WORLD);
+        shape.y = random.nextInt(WORLD);
+        return shape;
+    }
+}
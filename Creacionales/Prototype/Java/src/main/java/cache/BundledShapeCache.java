@@ -1,17 +1,58 @@
 package cache;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
 
 import shapes.Circle;
+import shapes.ImmutableShape;
 import shapes.Rectangle;
 import shapes.Shape;
+import spatial.Bounds;
+import spatial.GridIndex;
 
 public class BundledShapeCache {
 
-    private Map<String, Shape> cache = new HashMap<>();
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final int CLONE_SAMPLE_MASK = 63;
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final CacheStats stats = new CacheStats();
+    private final GridIndex<String> spatialIndex;
+    private final ReadWriteLock spatialIndexLock = new ReentrantReadWriteLock();
+    // CLOCK (second chance) ring; replaced or removed entries are dropped lazily.
+    private final ConcurrentLinkedQueue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Object evictionLock = new Object();
+    private volatile boolean spatialIndexReady;
+    private final int maximumSize;
+    // Keys of a loaded snapshot are served from the mapping until first read; removed or
+    // replaced ones are recorded as detached so the file no longer answers for them.
+    private final ShapeSnapshot snapshot;
+    private final Set<String> detached = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger materialized = new AtomicInteger();
+    private int coldRecord;
 
     public BundledShapeCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public BundledShapeCache(int maximumSize) {
+        this(maximumSize, GridIndex.DEFAULT_CELL_SIZE);
+    }
+
+    public BundledShapeCache(int maximumSize, int spatialCellSize) {
+        this(maximumSize, spatialCellSize, null);
+
         Circle circle = new Circle();
         circle.x = 5;
         circle.y = 7;
@@ -25,16 +66,293 @@ public class BundledShapeCache {
         rectangle.height = 10;
         rectangle.color = "Blue";
 
-        cache.put("Big green circle", circle);
-        cache.put("Medium blue rectangle", rectangle);
+        put("Big green circle", circle);
+        put("Medium blue rectangle", rectangle);
+    }
+
+    BundledShapeCache(int maximumSize, int spatialCellSize, ShapeSnapshot snapshot) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.spatialIndex = new GridIndex<>(spatialCellSize);
+        this.snapshot = snapshot;
+        this.spatialIndexReady = snapshot == null;
     }
-    
+
     public Shape put(String key, Shape shape) {
-        cache.put(key, shape);
+        if (key == null || shape == null) {
+            throw new IllegalArgumentException("Key and shape must not be null");
+        }
+        link(key, new Entry(key, ImmutableShape.of(shape)), Bounds.of(shape));
         return shape;
     }
 
+    void forEachShared(BiConsumer<String, ImmutableShape> action) {
+        if (snapshot != null) {
+            snapshot.forEachKey((key, record) -> {
+                if (detached.contains(key)) return;
+                Entry entry = cache.get(key);
+                action.accept(key, entry != null && entry.snapshot != null ? entry.shared() : snapshot.decode(record));
+            });
+        }
+        cache.forEach((key, entry) -> {
+            if (entry.snapshot == null) action.accept(key, entry.shared());
+        });
+    }
+
     public Shape get(String key) {
-        return cache.get(key).clone();
+        return copyOf(getShared(key));
+    }
+
+    public Optional<Shape> find(String key) {
+        Entry entry = lookup(key);
+        return entry == null ? Optional.empty() : Optional.of(copyOf(entry.shared()));
+    }
+
+    public ImmutableShape getShared(String key) {
+        Entry entry = lookup(key);
+        if (entry == null) {
+            throw new NoSuchElementException("No prototype cached under key: " + key);
+        }
+        return entry.shared();
+    }
+
+    public Optional<ImmutableShape> findShared(String key) {
+        Entry entry = lookup(key);
+        return entry == null ? Optional.empty() : Optional.of(entry.shared());
+    }
+
+    public boolean remove(String key) {
+        if (key == null) return false;
+        boolean[] removed = new boolean[1];
+        spatialIndexLock.readLock().lock();
+        try {
+            cache.compute(key, (k, current) -> {
+                if (current != null && current.snapshot != null) materialized.decrementAndGet();
+                removed[0] = current != null | detachFromSnapshot(k);
+                if (removed[0] && spatialIndexReady) spatialIndex.remove(k);
+                return null;
+            });
+        } finally {
+            spatialIndexLock.readLock().unlock();
+        }
+        return removed[0];
+    }
+
+    public List<String> keysWithin(int minX, int minY, int maxX, int maxY) {
+        ensureSpatialIndex();
+        return spatialIndex.query(minX, minY, maxX, maxY);
+    }
+
+    public Optional<String> nearestKey(int x, int y) {
+        ensureSpatialIndex();
+        return Optional.ofNullable(spatialIndex.nearest(x, y));
+    }
+
+    public boolean contains(String key) {
+        if (key == null) return false;
+        if (cache.containsKey(key)) return true;
+        return snapshot != null && snapshot.find(key) >= 0 && !detached.contains(key);
+    }
+
+    public int size() {
+        if (snapshot == null) return cache.size();
+        return cache.size() - materialized.get() + snapshot.recordCount() - detached.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    private Shape copyOf(ImmutableShape shared) {
+        if ((ThreadLocalRandom.current().nextInt() & CLONE_SAMPLE_MASK) != 0) {
+            return shared.toShape();
+        }
+        long start = System.nanoTime();
+        Shape copy = shared.toShape();
+        stats.recordClone(System.nanoTime() - start);
+        return copy;
+    }
+
+    private Entry lookup(String key) {
+        Entry entry = key == null ? null : cache.get(key);
+        if (entry == null && snapshot != null) {
+            entry = materialize(key);
+        }
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry;
+    }
+
+    private Entry materialize(String key) {
+        int record = snapshot.find(key);
+        if (record < 0) return null;
+        Entry[] created = new Entry[1];
+        Entry entry = cache.computeIfAbsent(key, k -> {
+            if (detached.contains(k)) return null;
+            materialized.incrementAndGet();
+            return created[0] = new Entry(k, snapshot, record);
+        });
+        if (created[0] != null) {
+            enqueue(created[0]);
+        }
+        return entry;
+    }
+
+    // Called inside a compute on the key's bin, which orders it against materialize().
+    private boolean detachFromSnapshot(String key) {
+        return snapshot != null && snapshot.find(key) >= 0 && detached.add(key);
+    }
+
+    private void link(String key, Entry entry, Bounds bounds) {
+        spatialIndexLock.readLock().lock();
+        try {
+            cache.compute(key, (k, previous) -> {
+                if (previous != null && previous.snapshot != null) materialized.decrementAndGet();
+                detachFromSnapshot(k);
+                if (spatialIndexReady) spatialIndex.insert(k, bounds);
+                return entry;
+            });
+        } finally {
+            spatialIndexLock.readLock().unlock();
+        }
+        enqueue(entry);
+    }
+
+    private void enqueue(Entry entry) {
+        evictionQueue.offer(entry);
+        if (queued.incrementAndGet() > 2 * maximumSize || size() > maximumSize) {
+            evict();
+        }
+    }
+
+    private void ensureSpatialIndex() {
+        if (spatialIndexReady) return;
+        spatialIndexLock.writeLock().lock();
+        try {
+            if (spatialIndexReady) return;
+            if (snapshot != null) {
+                snapshot.forEachKey((key, record) -> {
+                    if (!detached.contains(key)) spatialIndex.insert(key, snapshot.bounds(record));
+                });
+            }
+            cache.forEach((key, entry) -> {
+                if (entry.snapshot == null) spatialIndex.insert(key, entry.bounds());
+            });
+            spatialIndexReady = true;
+        } finally {
+            spatialIndexLock.writeLock().unlock();
+        }
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            while (size() > maximumSize || queued.get() > 2 * maximumSize) {
+                // Snapshot records nobody has read yet are colder than anything in the ring.
+                if (size() > maximumSize && evictColdRecord()) continue;
+                Entry candidate = evictionQueue.poll();
+                if (candidate == null) return;
+                queued.decrementAndGet();
+                if (cache.get(candidate.key) != candidate) continue;
+                if (size() > maximumSize && !candidate.referenced) {
+                    if (unlink(candidate)) {
+                        stats.recordEviction();
+                    }
+                    continue;
+                }
+                candidate.referenced = false;
+                evictionQueue.offer(candidate);
+                queued.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean evictColdRecord() {
+        while (snapshot != null && coldRecord < snapshot.recordCount()) {
+            String key = snapshot.key(coldRecord++);
+            boolean[] removed = new boolean[1];
+            spatialIndexLock.readLock().lock();
+            try {
+                cache.compute(key, (k, current) -> {
+                    if (current != null) return current;
+                    removed[0] = detached.add(k);
+                    if (removed[0] && spatialIndexReady) spatialIndex.remove(k);
+                    return null;
+                });
+            } finally {
+                spatialIndexLock.readLock().unlock();
+            }
+            if (removed[0]) {
+                stats.recordEviction();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean unlink(Entry expected) {
+        boolean[] removed = new boolean[1];
+        spatialIndexLock.readLock().lock();
+        try {
+            cache.computeIfPresent(expected.key, (k, current) -> {
+                if (current != expected) return current;
+                if (current.snapshot != null) {
+                    materialized.decrementAndGet();
+                    detached.add(k);
+                }
+                if (spatialIndexReady) spatialIndex.remove(k);
+                removed[0] = true;
+                return null;
+            });
+        } finally {
+            spatialIndexLock.readLock().unlock();
+        }
+        return removed[0];
+    }
+
+    private static final class Entry {
+        private final String key;
+        private volatile ImmutableShape shared;
+        private final ShapeSnapshot snapshot;
+        private final int record;
+        private volatile boolean referenced;
+
+        private Entry(String key, ImmutableShape shared) {
+            this.key = key;
+            this.shared = shared;
+            this.snapshot = null;
+            this.record = -1;
+        }
+
+        private Entry(String key, ShapeSnapshot snapshot, int record) {
+            this.key = key;
+            this.snapshot = snapshot;
+            this.record = record;
+        }
+
+        private ImmutableShape shared() {
+            ImmutableShape result = shared;
+            if (result == null) {
+                result = snapshot.decode(record);
+                shared = result;
+            }
+            return result;
+        }
+
+        private Bounds bounds() {
+            ImmutableShape decoded = shared;
+            return decoded == null ? snapshot.bounds(record) : Bounds.of(decoded.toShape());
+        }
     }
 }
@@ -0,0 +1,61 @@
+package cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder clones = new LongAdder();
+    private final LongAdder cloneNanos = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordClone(long nanos) {
+        clones.increment();
+        cloneNanos.add(nanos);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public double getAverageCloneNanos() {
+        long count = clones.sum();
+        return count == 0 ? 0 : (double) cloneNanos.sum() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + getHits()
+                + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions()
+                + ", hitRate=" + String.format("%.3f", getHitRate())
+                + ", avgCloneNanos=" + String.format("%.1f", getAverageCloneNanos());
+    }
+}
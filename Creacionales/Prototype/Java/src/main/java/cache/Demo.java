@@ -27,5 +27,10 @@ public class Demo {
         } else {
             System.out.println("Rectangle objects are the same (booo!)");
         }
+
+        if (cache.find("Small red triangle").isEmpty()) {
+            System.out.println("Small red triangle is not cached (yay!)");
+        }
+        System.out.println("Cache stats: " + cache.getStats());
     }
 }
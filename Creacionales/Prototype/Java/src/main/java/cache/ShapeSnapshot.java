@@ -0,0 +1,273 @@
+package cache;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+import shapes.Circle;
+import shapes.ImmutableShape;
+import shapes.Rectangle;
+import shapes.Shape;
+import spatial.Bounds;
+import spatial.GridIndex;
+
+public final class ShapeSnapshot {
+
+    private static final int MAGIC = 0x53484150;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 48;
+    private static final int RECORD_SIZE = 32;
+    private static final int SLOT_SIZE = 8;
+    private static final byte CIRCLE = 1;
+    private static final byte RECTANGLE = 2;
+    private static final int NO_COLOR = -1;
+
+    private final ByteBuffer buffer;
+    private final String[] colors;
+    private final int recordCount;
+    private final int recordsOffset;
+    private final int tableOffset;
+    private final int slotMask;
+
+    private ShapeSnapshot(ByteBuffer buffer, String[] colors, int recordCount, int recordsOffset, int tableOffset, int slotCount) {
+        this.buffer = buffer;
+        this.colors = colors;
+        this.recordCount = recordCount;
+        this.recordsOffset = recordsOffset;
+        this.tableOffset = tableOffset;
+        this.slotMask = slotCount - 1;
+    }
+
+    public static void write(BundledShapeCache cache, Path path) throws IOException {
+        List<String> keys = new ArrayList<>();
+        List<ImmutableShape> shapes = new ArrayList<>();
+        cache.forEachShared((key, shape) -> {
+            keys.add(key);
+            shapes.add(shape);
+        });
+
+        Map<String, Integer> colorIds = new LinkedHashMap<>();
+        long colorBytes = 0;
+        for (ImmutableShape shape : shapes) {
+            String color = shape.getColor();
+            if (color != null && !colorIds.containsKey(color)) {
+                colorIds.put(color, colorIds.size());
+                colorBytes += Integer.BYTES + color.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        byte[][] keyBytes = new byte[keys.size()][];
+        long keyTableBytes = 0;
+        for (int i = 0; i < keyBytes.length; i++) {
+            keyBytes[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+            keyTableBytes += Integer.BYTES + keyBytes[i].length;
+        }
+        long recordsOffset = HEADER_SIZE + colorBytes;
+        long keysOffset = recordsOffset + (long) shapes.size() * RECORD_SIZE;
+        long tableOffset = keysOffset + keyTableBytes;
+
+        // Open-addressing table of (String.hashCode, record + 1) pairs; 0 marks an empty slot.
+        int slotCount = Integer.highestOneBit(Math.max(2, keys.size()) * 2 - 1) << 1;
+        int[] slots = new int[slotCount * 2];
+        for (int record = 0; record < keys.size(); record++) {
+            int hash = keys.get(record).hashCode();
+            int slot = spread(hash) & (slotCount - 1);
+            while (slots[slot * 2 + 1] != 0) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            slots[slot * 2] = hash;
+            slots[slot * 2 + 1] = record + 1;
+        }
+        long fileSize = tableOffset + (long) slotCount * SLOT_SIZE;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot would be too large to map: " + fileSize + " bytes");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(shapes.size());
+            out.writeInt(colorIds.size());
+            out.writeLong(recordsOffset);
+            out.writeLong(keysOffset);
+            out.writeLong(tableOffset);
+            out.writeInt(slotCount);
+            out.writeInt(0);
+            for (String color : colorIds.keySet()) {
+                writeString(out, color);
+            }
+            long keyOffset = keysOffset;
+            for (int record = 0; record < shapes.size(); record++) {
+                writeRecord(out, shapes.get(record), colorIds, (int) keyOffset);
+                keyOffset += Integer.BYTES + keyBytes[record].length;
+            }
+            for (byte[] key : keyBytes) {
+                out.writeInt(key.length);
+                out.write(key);
+            }
+            for (int value : slots) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    public static BundledShapeCache load(Path path) throws IOException {
+        return load(path, -1);
+    }
+
+    public static BundledShapeCache load(Path path, int maximumSize) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large to map: " + channel.size() + " bytes");
+            }
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a shape snapshot: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a shape snapshot or unsupported version: " + path);
+        }
+        int recordCount = buffer.getInt(8);
+        int colorCount = buffer.getInt(12);
+        int recordsOffset = Math.toIntExact(buffer.getLong(16));
+        int tableOffset = Math.toIntExact(buffer.getLong(32));
+        int slotCount = buffer.getInt(40);
+        if (Integer.bitCount(slotCount) != 1 || slotCount <= recordCount
+                || (long) tableOffset + (long) slotCount * SLOT_SIZE > buffer.capacity()) {
+            throw new IOException("Corrupt snapshot key table: " + path);
+        }
+
+        String[] colors = new String[colorCount];
+        int colorPosition = HEADER_SIZE;
+        for (int i = 0; i < colorCount; i++) {
+            int length = buffer.getInt(colorPosition);
+            colors[i] = readString(buffer, colorPosition + Integer.BYTES, length);
+            colorPosition += Integer.BYTES + length;
+        }
+
+        int capacity = maximumSize == -1 ? Math.max(BundledShapeCache.DEFAULT_MAXIMUM_SIZE, recordCount) : maximumSize;
+        if (recordCount > capacity) {
+            throw new IllegalArgumentException("Snapshot holds " + recordCount + " shapes, more than the maximum size " + capacity);
+        }
+        ShapeSnapshot snapshot = new ShapeSnapshot(buffer, colors, recordCount, recordsOffset, tableOffset, slotCount);
+        return new BundledShapeCache(capacity, GridIndex.DEFAULT_CELL_SIZE, snapshot);
+    }
+
+    int recordCount() {
+        return recordCount;
+    }
+
+    int find(String key) {
+        int hash = key.hashCode();
+        byte[] bytes = null;
+        for (int slot = spread(hash) & slotMask; ; slot = (slot + 1) & slotMask) {
+            int offset = tableOffset + slot * SLOT_SIZE;
+            int record = buffer.getInt(offset + 4) - 1;
+            if (record < 0) return -1;
+            if (buffer.getInt(offset) != hash) continue;
+            if (bytes == null) bytes = key.getBytes(StandardCharsets.UTF_8);
+            if (keyEquals(record, bytes)) return record;
+        }
+    }
+
+    String key(int record) {
+        int position = buffer.getInt(recordOffset(record) + 24);
+        return readString(buffer, position + Integer.BYTES, buffer.getInt(position));
+    }
+
+    void forEachKey(ObjIntConsumer<String> action) {
+        for (int record = 0; record < recordCount; record++) {
+            action.accept(key(record), record);
+        }
+    }
+
+    ImmutableShape decode(int record) {
+        int offset = recordOffset(record);
+        byte type = buffer.get(offset);
+        int color = buffer.getInt(offset + 4);
+        Shape shape;
+        if (type == CIRCLE) {
+            Circle circle = new Circle();
+            circle.radius = buffer.getInt(offset + 16);
+            shape = circle;
+        } else {
+            Rectangle rectangle = new Rectangle();
+            rectangle.width = buffer.getInt(offset + 16);
+            rectangle.height = buffer.getInt(offset + 20);
+            shape = rectangle;
+        }
+        shape.x = buffer.getInt(offset + 8);
+        shape.y = buffer.getInt(offset + 12);
+        shape.color = color == NO_COLOR ? null : colors[color];
+        return ImmutableShape.of(shape);
+    }
+
+    Bounds bounds(int record) {
+        int offset = recordOffset(record);
+        int x = buffer.getInt(offset + 8);
+        int y = buffer.getInt(offset + 12);
+        if (buffer.get(offset) == CIRCLE) {
+            return Bounds.ofCircle(x, y, buffer.getInt(offset + 16));
+        }
+        return Bounds.ofRectangle(x, y, buffer.getInt(offset + 16), buffer.getInt(offset + 20));
+    }
+
+    private boolean keyEquals(int record, byte[] key) {
+        int position = buffer.getInt(recordOffset(record) + 24);
+        if (buffer.getInt(position) != key.length) return false;
+        position += Integer.BYTES;
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(position + i) != key[i]) return false;
+        }
+        return true;
+    }
+
+    private int recordOffset(int record) {
+        return recordsOffset + record * RECORD_SIZE;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void writeRecord(DataOutputStream out, ImmutableShape shape, Map<String, Integer> colorIds, int keyOffset) throws IOException {
+        boolean circle = Circle.class.isAssignableFrom(shape.getType());
+        if (!circle && !Rectangle.class.isAssignableFrom(shape.getType())) {
+            throw new IllegalArgumentException("Unsupported shape type: " + shape.getType().getName());
+        }
+        out.writeByte(circle ? CIRCLE : RECTANGLE);
+        out.writeByte(0);
+        out.writeShort(0);
+        out.writeInt(shape.getColor() == null ? NO_COLOR : colorIds.get(shape.getColor()));
+        out.writeInt(shape.getX());
+        out.writeInt(shape.getY());
+        out.writeInt(circle ? shape.getRadius() : shape.getWidth());
+        out.writeInt(circle ? 0 : shape.getHeight());
+        out.writeInt(keyOffset);
+        out.writeInt(0);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -24,4 +24,9 @@ public class Circle extends Shape {
         Circle shape2 = (Circle) obj2;
         return shape2.radius == radius;
     }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + radius;
+    }
 }
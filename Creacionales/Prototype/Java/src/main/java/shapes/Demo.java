@@ -29,21 +29,16 @@ public class Demo {
     }
     
     private static void cloneAndCompare(List<Shape> shapes, List<Shape> shapesCopy) {
-        shapes.forEach(shape -> {
-            shapesCopy.add(shape.clone());
-        });
-
-        for (int index=0; index < shapes.size(); index++) {
-            if (shapes.get(index) != shapesCopy.get(index)) {
-                System.out.println(index + ": Shapes are different objects (yay!)");
-                if (shapes.get(index).equals(shapesCopy.get(index))) {
-                    System.out.println(index + ": And they are identical (yay!)");
-                } else {
-                    System.out.println(index + ": But they are not identical (booo!)");
-                }
-            } else {
-                System.out.println(index + ": Shape Objects are the same (booo!)");
-            }
+        shapesCopy.addAll(Shapes.cloneAll(shapes));
+
+        int invalid = Shapes.findInvalidCopy(shapes, shapesCopy);
+        if (invalid == -1) {
+            System.out.println("All " + shapes.size() + " shapes are different objects (yay!)");
+            System.out.println("And they are identical (yay!)");
+        } else if (shapes.get(invalid) == shapesCopy.get(invalid)) {
+            System.out.println(invalid + ": Shape Objects are the same (booo!)");
+        } else {
+            System.out.println(invalid + ": But they are not identical (booo!)");
         }
     }
 }
@@ -0,0 +1,113 @@
+package shapes;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public final class ImmutableShape {
+
+    private final Shape shape;
+
+    private ImmutableShape(Shape shape) {
+        this.shape = shape;
+    }
+
+    public static ImmutableShape of(Shape shape) {
+        Objects.requireNonNull(shape, "shape");
+        return new ImmutableShape(shape.clone());
+    }
+
+    public Class<? extends Shape> getType() {
+        return shape.getClass();
+    }
+
+    public int getX() {
+        return shape.x;
+    }
+
+    public int getY() {
+        return shape.y;
+    }
+
+    public String getColor() {
+        return shape.color;
+    }
+
+    public int getRadius() {
+        return asCircle().radius;
+    }
+
+    public int getWidth() {
+        return asRectangle().width;
+    }
+
+    public int getHeight() {
+        return asRectangle().height;
+    }
+
+    public ImmutableShape withX(int x) {
+        return x == shape.x ? this : update(copy -> copy.x = x);
+    }
+
+    public ImmutableShape withY(int y) {
+        return y == shape.y ? this : update(copy -> copy.y = y);
+    }
+
+    public ImmutableShape withColor(String color) {
+        return Objects.equals(color, shape.color) ? this : update(copy -> copy.color = color);
+    }
+
+    public ImmutableShape withRadius(int radius) {
+        return radius == getRadius() ? this : update(copy -> ((Circle) copy).radius = radius);
+    }
+
+    public ImmutableShape withWidth(int width) {
+        return width == getWidth() ? this : update(copy -> ((Rectangle) copy).width = width);
+    }
+
+    public ImmutableShape withHeight(int height) {
+        return height == getHeight() ? this : update(copy -> ((Rectangle) copy).height = height);
+    }
+
+    // The caller may keep a reference to the shape it edited, so the result holds a fresh clone.
+    public ImmutableShape derive(Consumer<? super Shape> changes) {
+        Shape copy = shape.clone();
+        changes.accept(copy);
+        return copy.equals(shape) ? this : of(copy);
+    }
+
+    private ImmutableShape update(Consumer<Shape> changes) {
+        Shape copy = shape.clone();
+        changes.accept(copy);
+        return new ImmutableShape(copy);
+    }
+
+    public Shape toShape() {
+        return shape.clone();
+    }
+
+    private Circle asCircle() {
+        if (!(shape instanceof Circle)) {
+            throw new IllegalStateException("Shape is not a circle: " + shape.getClass().getSimpleName());
+        }
+        return (Circle) shape;
+    }
+
+    private Rectangle asRectangle() {
+        if (!(shape instanceof Rectangle)) {
+            throw new IllegalStateException("Shape is not a rectangle: " + shape.getClass().getSimpleName());
+        }
+        return (Rectangle) shape;
+    }
+
+    @Override
+    public boolean equals(Object obj2) {
+        if (!(obj2 instanceof ImmutableShape)) return false;
+        ImmutableShape shape2 = (ImmutableShape) obj2;
+        return shape.equals(shape2.shape);
+    }
+
+    @Override
+    public int hashCode() {
+        return shape.hashCode();
+    }
+}
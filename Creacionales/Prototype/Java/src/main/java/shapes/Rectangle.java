@@ -26,4 +26,9 @@ public class Rectangle extends Shape {
         Rectangle shape2 = (Rectangle) obj2;
         return shape2.width == width && shape2.height == height;
     }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * super.hashCode() + width) + height;
+    }
 }
@@ -26,4 +26,9 @@ public abstract class Shape {
         Shape shape2 = (Shape) obj2;
         return shape2.x == x && shape2.y == y && Objects.equals(shape2.color, color);
     }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * x + y) + Objects.hashCode(color);
+    }
 }
@@ -0,0 +1,30 @@
+package shapes;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+public class ShapeInterner {
+
+    private final Map<ImmutableShape, WeakReference<ImmutableShape>> canonicals = new WeakHashMap<>();
+
+    public ImmutableShape intern(Shape shape) {
+        return intern(ImmutableShape.of(shape));
+    }
+
+    public synchronized ImmutableShape intern(ImmutableShape shape) {
+        Objects.requireNonNull(shape, "shape");
+        WeakReference<ImmutableShape> reference = canonicals.get(shape);
+        ImmutableShape canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        canonicals.put(shape, new WeakReference<>(shape));
+        return shape;
+    }
+
+    public synchronized int size() {
+        return canonicals.size();
+    }
+}
@@ -0,0 +1,180 @@
+package shapes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class ShapeStore {
+
+    private static final byte CIRCLE = 1;
+    private static final byte RECTANGLE = 2;
+    private static final int NO_COLOR = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private byte[] types;
+    private int[] x;
+    private int[] y;
+    private int[] radius;
+    private int[] width;
+    private int[] height;
+    private int[] colors;
+    private int size;
+
+    private final List<String> colorDictionary = new ArrayList<>();
+    private final Map<String, Integer> colorIds = new HashMap<>();
+
+    public ShapeStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ShapeStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+        }
+        types = new byte[initialCapacity];
+        x = new int[initialCapacity];
+        y = new int[initialCapacity];
+        radius = new int[initialCapacity];
+        width = new int[initialCapacity];
+        height = new int[initialCapacity];
+        colors = new int[initialCapacity];
+    }
+
+    public int add(Shape shape) {
+        Objects.requireNonNull(shape, "shape");
+        ensureCapacity(size + 1);
+        int id = size;
+        if (shape instanceof Circle) {
+            types[id] = CIRCLE;
+            radius[id] = ((Circle) shape).radius;
+            width[id] = 0;
+            height[id] = 0;
+        } else if (shape instanceof Rectangle) {
+            Rectangle rectangle = (Rectangle) shape;
+            types[id] = RECTANGLE;
+            radius[id] = 0;
+            width[id] = rectangle.width;
+            height[id] = rectangle.height;
+        } else {
+            throw new IllegalArgumentException("Unsupported shape type: " + shape.getClass().getName());
+        }
+        x[id] = shape.x;
+        y[id] = shape.y;
+        colors[id] = colorId(shape.color);
+        size++;
+        return id;
+    }
+
+    public int clone(int id) {
+        return cloneRange(id, 1);
+    }
+
+    public int cloneRange(int from, int count) {
+        Objects.checkFromIndexSize(from, count, size);
+        ensureCapacity(size + count);
+        int first = size;
+        System.arraycopy(types, from, types, first, count);
+        System.arraycopy(x, from, x, first, count);
+        System.arraycopy(y, from, y, first, count);
+        System.arraycopy(radius, from, radius, first, count);
+        System.arraycopy(width, from, width, first, count);
+        System.arraycopy(height, from, height, first, count);
+        System.arraycopy(colors, from, colors, first, count);
+        size += count;
+        return first;
+    }
+
+    public Shape materialize(int id) {
+        Objects.checkIndex(id, size);
+        Shape shape;
+        if (types[id] == CIRCLE) {
+            Circle circle = new Circle();
+            circle.radius = radius[id];
+            shape = circle;
+        } else {
+            Rectangle rectangle = new Rectangle();
+            rectangle.width = width[id];
+            rectangle.height = height[id];
+            shape = rectangle;
+        }
+        shape.x = x[id];
+        shape.y = y[id];
+        shape.color = getColor(id);
+        return shape;
+    }
+
+    public boolean isCircle(int id) {
+        Objects.checkIndex(id, size);
+        return types[id] == CIRCLE;
+    }
+
+    public boolean isRectangle(int id) {
+        Objects.checkIndex(id, size);
+        return types[id] == RECTANGLE;
+    }
+
+    public int getX(int id) {
+        Objects.checkIndex(id, size);
+        return x[id];
+    }
+
+    public int getY(int id) {
+        Objects.checkIndex(id, size);
+        return y[id];
+    }
+
+    public int getRadius(int id) {
+        Objects.checkIndex(id, size);
+        return radius[id];
+    }
+
+    public int getWidth(int id) {
+        Objects.checkIndex(id, size);
+        return width[id];
+    }
+
+    public int getHeight(int id) {
+        Objects.checkIndex(id, size);
+        return height[id];
+    }
+
+    public String getColor(int id) {
+        Objects.checkIndex(id, size);
+        int colorId = colors[id];
+        return colorId == NO_COLOR ? null : colorDictionary.get(colorId);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int colorId(String color) {
+        if (color == null) return NO_COLOR;
+        Integer id = colorIds.get(color);
+        if (id == null) {
+            id = colorDictionary.size();
+            colorDictionary.add(color);
+            colorIds.put(color, id);
+        }
+        return id;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= types.length) return;
+        if (minCapacity < 0) {
+            throw new IllegalStateException("ShapeStore cannot hold more than " + Integer.MAX_VALUE + " shapes");
+        }
+        int capacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, types.length + (types.length >> 1)));
+        if (capacity < 0) capacity = minCapacity;
+        types = Arrays.copyOf(types, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+    }
+}
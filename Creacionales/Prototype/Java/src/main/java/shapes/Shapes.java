@@ -0,0 +1,139 @@
+package shapes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+public final class Shapes {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8_192;
+
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    private Shapes() {}
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public static void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        parallelThreshold = threshold;
+    }
+
+    public static List<Shape> cloneAll(List<Shape> shapes) {
+        return cloneAll(shapes, ForkJoinPool.commonPool());
+    }
+
+    public static List<Shape> cloneAll(List<Shape> shapes, ForkJoinPool pool) {
+        Shape[] source = shapes.toArray(new Shape[0]);
+        Shape[] target = new Shape[source.length];
+        int threshold = parallelThreshold;
+        if (source.length <= threshold) {
+            cloneRange(source, target, 0, source.length);
+        } else {
+            pool.invoke(new CloneTask(source, target, 0, source.length, threshold));
+        }
+        return new ArrayList<>(Arrays.asList(target));
+    }
+
+    public static int findInvalidCopy(List<Shape> originals, List<Shape> copies) {
+        return findInvalidCopy(originals, copies, ForkJoinPool.commonPool());
+    }
+
+    public static int findInvalidCopy(List<Shape> originals, List<Shape> copies, ForkJoinPool pool) {
+        if (originals.size() != copies.size()) {
+            return Math.min(originals.size(), copies.size());
+        }
+        Shape[] left = originals.toArray(new Shape[0]);
+        Shape[] right = copies.toArray(new Shape[0]);
+        int threshold = parallelThreshold;
+        if (left.length <= threshold) {
+            return verifyRange(left, right, 0, left.length);
+        }
+        return pool.invoke(new VerifyTask(left, right, 0, left.length, threshold));
+    }
+
+    private static void cloneRange(Shape[] source, Shape[] target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Shape shape = source[i];
+            target[i] = shape == null ? null : shape.clone();
+        }
+    }
+
+    private static int verifyRange(Shape[] originals, Shape[] copies, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Shape original = originals[i];
+            Shape copy = copies[i];
+            if (original == null ? copy != null : original == copy || !original.equals(copy)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class CloneTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Shape[] source;
+        private final Shape[] target;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private CloneTask(Shape[] source, Shape[] target, int from, int to, int threshold) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                cloneRange(source, target, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CloneTask(source, target, from, middle, threshold),
+                    new CloneTask(source, target, middle, to, threshold));
+        }
+    }
+
+    private static final class VerifyTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final Shape[] originals;
+        private final Shape[] copies;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private VerifyTask(Shape[] originals, Shape[] copies, int from, int to, int threshold) {
+            this.originals = originals;
+            this.copies = copies;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= threshold) {
+                return verifyRange(originals, copies, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            VerifyTask right = new VerifyTask(originals, copies, middle, to, threshold);
+            right.fork();
+            int leftResult = new VerifyTask(originals, copies, from, middle, threshold).compute();
+            int rightResult = right.join();
+            return leftResult != -1 ? leftResult : rightResult;
+        }
+    }
+}
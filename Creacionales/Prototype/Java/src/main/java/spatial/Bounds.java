@@ -0,0 +1,92 @@
+package spatial;
+
+import shapes.Circle;
+import shapes.Rectangle;
+import shapes.Shape;
+
+public final class Bounds {
+
+    private final int minX;
+    private final int minY;
+    private final int maxX;
+    private final int maxY;
+
+    public Bounds(int minX, int minY, int maxX, int maxY) {
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Invalid bounds: [" + minX + ", " + minY + ", " + maxX + ", " + maxY + "]");
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    public static Bounds of(Shape shape) {
+        if (shape instanceof Circle) {
+            return ofCircle(shape.x, shape.y, ((Circle) shape).radius);
+        }
+        if (shape instanceof Rectangle) {
+            Rectangle rectangle = (Rectangle) shape;
+            return ofRectangle(shape.x, shape.y, rectangle.width, rectangle.height);
+        }
+        return new Bounds(shape.x, shape.y, shape.x, shape.y);
+    }
+
+    public static Bounds ofCircle(int x, int y, int radius) {
+        long r = Math.abs((long) radius);
+        return new Bounds(saturate(x - r), saturate(y - r), saturate(x + r), saturate(y + r));
+    }
+
+    public static Bounds ofRectangle(int x, int y, int width, int height) {
+        long endX = saturate((long) x + width);
+        long endY = saturate((long) y + height);
+        return new Bounds((int) Math.min(x, endX), (int) Math.min(y, endY), (int) Math.max(x, endX), (int) Math.max(y, endY));
+    }
+
+    private static int saturate(long coordinate) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, coordinate));
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    public boolean intersects(int otherMinX, int otherMinY, int otherMaxX, int otherMaxY) {
+        return minX <= otherMaxX && otherMinX <= maxX && minY <= otherMaxY && otherMinY <= maxY;
+    }
+
+    public long distanceSquared(int x, int y) {
+        long dx = x < minX ? (long) minX - x : x > maxX ? (long) x - maxX : 0;
+        long dy = y < minY ? (long) minY - y : y > maxY ? (long) y - maxY : 0;
+        return dx * dx + dy * dy;
+    }
+
+    @Override
+    public boolean equals(Object obj2) {
+        if (!(obj2 instanceof Bounds)) return false;
+        Bounds bounds2 = (Bounds) obj2;
+        return bounds2.minX == minX && bounds2.minY == minY && bounds2.maxX == maxX && bounds2.maxY == maxY;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * minX + minY) + maxX) + maxY;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minX + ", " + minY + ", " + maxX + ", " + maxY + "]";
+    }
+}
@@ -0,0 +1,198 @@
+package spatial;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class GridIndex<K> {
+
+    public static final int DEFAULT_CELL_SIZE = 64;
+    // Entries spanning more cells than this live in a side list that every query scans.
+    public static final int MAX_CELLS_PER_ENTRY = 256;
+
+    private final int cellSize;
+    private final Map<Long, Set<K>> cells = new ConcurrentHashMap<>();
+    private final Map<K, Bounds> entries = new ConcurrentHashMap<>();
+    private final Set<K> oversized = ConcurrentHashMap.newKeySet();
+
+    private volatile int minCellX = Integer.MAX_VALUE;
+    private volatile int minCellY = Integer.MAX_VALUE;
+    private volatile int maxCellX = Integer.MIN_VALUE;
+    private volatile int maxCellY = Integer.MIN_VALUE;
+
+    public GridIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public GridIndex(int cellSize) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    public synchronized void insert(K key, Bounds bounds) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(bounds, "bounds");
+        remove(key);
+        int fromX = cell(bounds.getMinX());
+        int fromY = cell(bounds.getMinY());
+        int toX = cell(bounds.getMaxX());
+        int toY = cell(bounds.getMaxY());
+        if (((long) toX - fromX + 1) * ((long) toY - fromY + 1) > MAX_CELLS_PER_ENTRY) {
+            entries.put(key, bounds);
+            oversized.add(key);
+            return;
+        }
+        for (int cx = fromX; cx <= toX; cx++) {
+            for (int cy = fromY; cy <= toY; cy++) {
+                cells.computeIfAbsent(cellKey(cx, cy), ignored -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        }
+        entries.put(key, bounds);
+        minCellX = Math.min(minCellX, fromX);
+        minCellY = Math.min(minCellY, fromY);
+        maxCellX = Math.max(maxCellX, toX);
+        maxCellY = Math.max(maxCellY, toY);
+    }
+
+    public synchronized boolean remove(K key) {
+        Bounds bounds = entries.remove(key);
+        if (bounds == null) return false;
+        if (oversized.remove(key)) return true;
+        for (int cx = cell(bounds.getMinX()), toX = cell(bounds.getMaxX()); cx <= toX; cx++) {
+            for (int cy = cell(bounds.getMinY()), toY = cell(bounds.getMaxY()); cy <= toY; cy++) {
+                Long cellKey = cellKey(cx, cy);
+                Set<K> keys = cells.get(cellKey);
+                if (keys != null) {
+                    keys.remove(key);
+                    if (keys.isEmpty()) cells.remove(cellKey);
+                }
+            }
+        }
+        return true;
+    }
+
+    public Bounds getBounds(K key) {
+        return entries.get(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<K> query(int minX, int minY, int maxX, int maxY) {
+        List<K> result = new ArrayList<>();
+        for (K key : oversized) {
+            Bounds bounds = entries.get(key);
+            if (bounds != null && bounds.intersects(minX, minY, maxX, maxY)) result.add(key);
+        }
+        int fromX = Math.max(cell(minX), minCellX);
+        int fromY = Math.max(cell(minY), minCellY);
+        int toX = Math.min(cell(maxX), maxCellX);
+        int toY = Math.min(cell(maxY), maxCellY);
+        if (fromX > toX || fromY > toY) return result;
+
+        long visitedCells = ((long) toX - fromX + 1) * ((long) toY - fromY + 1);
+        if (visitedCells > cells.size()) {
+            entries.forEach((key, bounds) -> {
+                if (!oversized.contains(key) && bounds.intersects(minX, minY, maxX, maxY)) result.add(key);
+            });
+            return result;
+        }
+
+        Set<K> seen = new HashSet<>();
+        for (int cx = fromX; cx <= toX; cx++) {
+            for (int cy = fromY; cy <= toY; cy++) {
+                Set<K> keys = cells.get(cellKey(cx, cy));
+                if (keys == null) continue;
+                for (K key : keys) {
+                    Bounds bounds = entries.get(key);
+                    if (bounds != null && bounds.intersects(minX, minY, maxX, maxY) && seen.add(key)) {
+                        result.add(key);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public K nearest(int x, int y) {
+        if (entries.isEmpty()) return null;
+        K best = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (K key : oversized) {
+            Bounds bounds = entries.get(key);
+            if (bounds == null) continue;
+            long distance = bounds.distanceSquared(x, y);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = key;
+            }
+        }
+        if (cells.isEmpty()) return best;
+        int centerX = cell(x);
+        int centerY = cell(y);
+        long farthestCell = Math.max(
+                Math.max((long) centerX - minCellX, (long) maxCellX - centerX),
+                Math.max((long) centerY - minCellY, (long) maxCellY - centerY));
+        int maxRing = (int) Math.min(Math.abs(farthestCell), Integer.MAX_VALUE);
+        long outsideX = Math.max(Math.max((long) minCellX - centerX, (long) centerX - maxCellX), 0);
+        long outsideY = Math.max(Math.max((long) minCellY - centerY, (long) centerY - maxCellY), 0);
+        int firstRing = (int) Math.min(Math.max(outsideX, outsideY), maxRing);
+        long cellBudget = 4L * cells.size() + 64;
+
+        long visitedCells = 0;
+        for (int ring = firstRing; ring <= maxRing; ring++) {
+            visitedCells += ring == 0 ? 1 : 8L * ring;
+            if (visitedCells > cellBudget) {
+                return nearestByScan(x, y);
+            }
+            for (int cx = centerX - ring; cx <= centerX + ring; cx++) {
+                boolean edgeColumn = cx == centerX - ring || cx == centerX + ring;
+                int step = edgeColumn ? 1 : Math.max(1, 2 * ring);
+                for (int cy = centerY - ring; cy <= centerY + ring; cy += step) {
+                    Set<K> keys = cells.get(cellKey(cx, cy));
+                    if (keys == null) continue;
+                    for (K key : keys) {
+                        Bounds bounds = entries.get(key);
+                        if (bounds == null) continue;
+                        long distance = bounds.distanceSquared(x, y);
+                        if (distance < bestDistance) {
+                            bestDistance = distance;
+                            best = key;
+                        }
+                    }
+                }
+            }
+            long reach = (long) ring * cellSize;
+            if (best != null && bestDistance <= reach * reach) break;
+        }
+        return best;
+    }
+
+    private K nearestByScan(int x, int y) {
+        K best = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (Map.Entry<K, Bounds> entry : entries.entrySet()) {
+            long distance = entry.getValue().distanceSquared(x, y);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = entry.getKey();
+            }
+        }
+        return best;
+    }
+
+    private int cell(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,200 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures getInstance() for every Singleton variant of this module, both
+ * in steady state (instance already built) and during the first-access
+ * initialization storm, where each trial uses a fresh class loader.
+ */
+public class GetInstanceBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int STEADY_OPERATIONS = 50_000_000;
+
+    private static volatile long sink;
+
+    enum Variant {
+        INGENUO_SINGLE_THREAD("singletonIngenuoSingleThread") {
+            @Override
+            long loop(int operations) {
+                long misses = 0;
+                Object expected = singletonIngenuoSingleThread.Singleton.getInstance("BENCH");
+                for (int i = 0; i < operations; i++) {
+                    if (singletonIngenuoSingleThread.Singleton.getInstance("BENCH") != expected) misses++;
+                }
+                return misses;
+            }
+        },
+        INGENUO_MULTI_THREAD("singletonIngenuoMultiThread") {
+            @Override
+            long loop(int operations) {
+                long misses = 0;
+                Object expected = singletonIngenuoMultiThread.Singleton.getInstance("BENCH");
+                for (int i = 0; i < operations; i++) {
+                    if (singletonIngenuoMultiThread.Singleton.getInstance("BENCH") != expected) misses++;
+                }
+                return misses;
+            }
+        },
+        DOUBLE_CHECKED_VOLATILE("singletonSeguridadHilosCargaDiferida") {
+            @Override
+            long loop(int operations) {
+                long misses = 0;
+                Object expected = singletonSeguridadHilosCargaDiferida.Singleton.getInstance("BENCH");
+                for (int i = 0; i < operations; i++) {
+                    if (singletonSeguridadHilosCargaDiferida.Singleton.getInstance("BENCH") != expected) misses++;
+                }
+                return misses;
+            }
+        },
+        HOLDER("singletonHolderCargaDiferida") {
+            @Override
+            long loop(int operations) {
+                long misses = 0;
+                Object expected = singletonHolderCargaDiferida.Singleton.getInstance();
+                for (int i = 0; i < operations; i++) {
+                    if (singletonHolderCargaDiferida.Singleton.getInstance() != expected) misses++;
+                }
+                return misses;
+            }
+        },
+        ENUM("singletonEnum") {
+            @Override
+            long loop(int operations) {
+                long misses = 0;
+                Object expected = singletonEnum.Singleton.getInstance();
+                for (int i = 0; i < operations; i++) {
+                    if (singletonEnum.Singleton.getInstance() != expected) misses++;
+                }
+                return misses;
+            }
+        },
+        VARHANDLE_ACQUIRE_RELEASE("singletonVarHandleCargaDiferida") {
+            @Override
+            long loop(int operations) {
+                long misses = 0;
+                Object expected = singletonVarHandleCargaDiferida.Singleton.getInstance("BENCH");
+                for (int i = 0; i < operations; i++) {
+                    if (singletonVarHandleCargaDiferida.Singleton.getInstance("BENCH") != expected) misses++;
+                }
+                return misses;
+            }
+        };
+
+        final String packageName;
+
+        Variant(String packageName) {
+            this.packageName = packageName;
+        }
+
+        abstract long loop(int operations);
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Steady state: getInstance() after the instance exists");
+        System.out.println("(plain and final static reads may be hoisted out of the loop; volatile and acquire reads cannot)");
+        for (Variant variant : Variant.values()) {
+            variant.loop(STEADY_OPERATIONS / 10);
+            for (int threads : THREADS) {
+                steadyState(variant, threads);
+            }
+        }
+
+        System.out.println();
+        System.out.println("Initialization storm: every thread calls getInstance() on a fresh class at once");
+        for (Variant variant : Variant.values()) {
+            for (int threads : THREADS) {
+                storm(variant, threads);
+            }
+        }
+    }
+
+    private static void steadyState(Variant variant, int threads) throws InterruptedException {
+        int operationsPerThread = STEADY_OPERATIONS / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder misses = new LongAdder();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                awaitQuietly(start);
+                misses.add(variant.loop(operationsPerThread));
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        long operations = (long) operationsPerThread * threads;
+        sink += misses.sum();
+        System.out.printf("%-28s %3d threads %10.3f ns/op %10.1f Mops/s%n",
+                variant, threads, (double) elapsed * threads / operations, operations * 1e3 / elapsed);
+    }
+
+    private static void storm(Variant variant, int threads) throws Exception {
+        MethodHandle getInstance = isolatedGetInstance(variant.packageName);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Object> instances = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            String value = "T" + t;
+            workers[t] = new Thread(() -> {
+                ready.countDown();
+                awaitQuietly(start);
+                try {
+                    instances.add(getInstance.invoke(value));
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            workers[t].start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        System.out.printf("%-28s %3d threads %10.3f ms until all threads returned, %d instance(s) created%n",
+                variant, threads, elapsed / 1e6, instances.size());
+    }
+
+    static MethodHandle isolatedGetInstance(String packageName) throws ReflectiveOperationException {
+        return getInstanceHandle(IsolatingClassLoader.isolate(packageName + ".Singleton",
+                GetInstanceBenchmark.class.getClassLoader()));
+    }
+
+    /* Returns type.getInstance as (String)Object; a no-arg getInstance ignores the argument */
+    public static MethodHandle getInstanceHandle(Class<?> type) throws ReflectiveOperationException {
+        for (Method method : type.getMethods()) {
+            if (!method.getName().equals("getInstance")) continue;
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            if (method.getParameterCount() == 0) {
+                handle = MethodHandles.dropArguments(handle, 0, String.class);
+            }
+            return handle.asType(MethodType.methodType(Object.class, String.class));
+        }
+        throw new NoSuchMethodException(type.getName() + ".getInstance");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads every class of one package again, so each instance of this loader
+ * sees fresh, uninitialized static singleton state.
+ */
+public class IsolatingClassLoader extends ClassLoader {
+    private final String packagePrefix;
+
+    public IsolatingClassLoader(String packageName, ClassLoader parent) {
+        super(parent);
+        this.packagePrefix = packageName + ".";
+    }
+
+    /* Loads className through a fresh loader for its package */
+    public static Class<?> isolate(String className, ClassLoader parent) throws ClassNotFoundException {
+        int dot = className.lastIndexOf('.');
+        if (dot < 0) {
+            throw new IllegalArgumentException("Class must belong to a named package: " + className);
+        }
+        return Class.forName(className, false, new IsolatingClassLoader(className.substring(0, dot), parent));
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(packagePrefix)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                String resource = name.replace('.', '/') + ".class";
+                try (InputStream in = getParent().getResourceAsStream(resource)) {
+                    if (in == null) throw new ClassNotFoundException(name);
+                    byte[] bytes = in.readAllBytes();
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+            if (resolve) resolveClass(loaded);
+            return loaded;
+        }
+    }
+}
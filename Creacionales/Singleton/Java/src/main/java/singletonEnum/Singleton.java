@@ -0,0 +1,16 @@
+package singletonEnum;
+
+
+public enum Singleton {
+    INSTANCE("ENUM");
+
+    public final String value;
+
+    Singleton(String value) {
+        this.value = value;
+    }
+
+    public static Singleton getInstance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,21 @@
+package singletonHolderCargaDiferida;
+
+
+public class DemoMultiThread {
+    public static void main(String[] args) {
+        System.out.println(
+            "If you see the same object twice, then singleton was reused (yay!) \n" +
+            "If you see different objects, then 2 singletons were created (booo!) \n\n" +
+            "Result: \n"
+        );
+
+        Runnable task = () -> {
+            Singleton singleton = Singleton.getInstance();
+            System.out.println(singleton.value + "@" + System.identityHashCode(singleton));
+        };
+        Thread threadFoo = new Thread(task);
+        Thread threadBar = new Thread(task);
+        threadFoo.start();
+        threadBar.start();
+    }
+}
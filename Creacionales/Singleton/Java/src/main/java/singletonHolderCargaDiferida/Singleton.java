@@ -0,0 +1,20 @@
+package singletonHolderCargaDiferida;
+
+
+public class Singleton {
+    public String value;
+
+    private Singleton(String value) {
+        this.value = value;
+    }
+
+    /* The JVM initializes Holder on the first call to getInstance, and class
+    initialization is already thread safe, so no locking is needed here */
+    private static class Holder {
+        private static final Singleton INSTANCE = new Singleton("HOLDER");
+    }
+
+    public static Singleton getInstance() {
+        return Holder.INSTANCE;
+    }
+}
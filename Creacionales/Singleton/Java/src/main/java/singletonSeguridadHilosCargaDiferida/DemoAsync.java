@@ -0,0 +1,72 @@
+package singletonSeguridadHilosCargaDiferida;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+public class DemoAsync {
+    private static final int CALLERS = 10_000;
+    private static final int CARRIERS = 4;
+    private static final long SLOW_INIT_MS = 1000;
+    /* Construction takes SLOW_INIT_MS; a heartbeat later than this means a carrier was blocked */
+    private static final long MAX_HEARTBEAT_DELAY_MS = 500;
+
+    public static void main(String[] args) {
+        System.out.println(
+            "If you see 1 instance, then singleton was reused (yay!) \n" +
+            "If the heartbeat ran while the slow construction was still running, then no carrier was blocked (yay!) \n" +
+            "Otherwise the demo exits with status 1 (booo!) \n\n" +
+            "Result: \n"
+        );
+
+        long start = System.nanoTime();
+        AtomicLong readyAt = new AtomicLong();
+        /* Emulates a slow construction without slowing down the shared Singleton class */
+        Executor slowInit = task -> {
+            Thread thread = new Thread(() -> {
+                try {
+                    Thread.sleep(SLOW_INIT_MS);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+                task.run();
+                readyAt.set(System.nanoTime());
+            }, "slow-singleton-init");
+            thread.setDaemon(true);
+            thread.start();
+        };
+        ExecutorService carriers = Executors.newFixedThreadPool(CARRIERS);
+        Set<Singleton> instances = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        CompletableFuture<?>[] callers = new CompletableFuture<?>[CALLERS];
+        for (int i = 0; i < CALLERS; i++) {
+            String value = "CALLER-" + i;
+            callers[i] = CompletableFuture
+                    .supplyAsync(() -> Singleton.getInstanceAsync(value, slowInit), carriers)
+                    .thenCompose(future -> future)
+                    .thenAccept(instances::add);
+        }
+        CompletableFuture<Long> heartbeat = CompletableFuture.supplyAsync(() -> {
+            long delay = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("Heartbeat ran on " + Thread.currentThread().getName() + " after " + delay + " ms");
+            return delay;
+        }, carriers);
+
+        CompletableFuture.allOf(callers).join();
+        long heartbeatDelay = heartbeat.join();
+        long ready = (readyAt.get() - start) / 1_000_000;
+        System.out.println(CALLERS + " callers saw " + instances.size() + " instance(s), ready after " + ready + " ms: "
+                + Singleton.getInstance("BLOCKING").value);
+        carriers.shutdown();
+
+        if (instances.size() != 1 || heartbeatDelay > MAX_HEARTBEAT_DELAY_MS || heartbeatDelay >= ready) {
+            System.out.println("Heartbeat delayed or more than one instance (booo!)");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package singletonSeguridadHilosCargaDiferida;
+
+
+public class DemoMultiton {
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println(
+            "If both EU lines show the same object, then the EU instance was reused (yay!) \n" +
+            "If US is ready long before EU, then a slow key does not block the others (yay!) \n\n" +
+            "Result: \n"
+        );
+
+        long start = System.nanoTime();
+        Multiton<String, StringBuilder> regions = new Multiton<>(region -> {
+            if (region.equals("EU")) {
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+            }
+            return new StringBuilder("Config for ").append(region);
+        });
+
+        Runnable eu = () -> {
+            StringBuilder config = regions.getInstance("EU");
+            System.out.println(config + " @" + System.identityHashCode(config)
+                    + " after " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        };
+        Thread threadFoo = new Thread(eu);
+        Thread threadBar = new Thread(eu);
+        threadFoo.start();
+        threadBar.start();
+
+        Thread.sleep(100);
+        StringBuilder us = regions.getInstance("US");
+        System.out.println(us + " @" + System.identityHashCode(us)
+                + " after " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
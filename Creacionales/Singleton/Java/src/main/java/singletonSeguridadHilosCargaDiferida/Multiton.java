@@ -0,0 +1,65 @@
+package singletonSeguridadHilosCargaDiferida;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+
+public class Multiton<K, V> {
+    private final Map<K, Holder<K, V>> instances = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+
+    public Multiton(Function<? super K, ? extends V> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory must not be null");
+        }
+        this.factory = factory;
+    }
+
+    public V getInstance(K key) {
+        Holder<K, V> holder = instances.get(key);
+        if (holder == null) {
+            /* Only the cheap holder is created inside the map, the slow
+            construction happens outside of it, locking just this key */
+            holder = instances.computeIfAbsent(key, Holder::new);
+        }
+        return holder.get(factory);
+    }
+
+    public boolean isInitialized(K key) {
+        Holder<K, V> holder = instances.get(key);
+        return holder != null && holder.instance != null;
+    }
+
+    public int size() {
+        return instances.size();
+    }
+
+    private static final class Holder<K, V> {
+        private final K key;
+        /* The field must be declared volatile so that double check
+        locking would work correctly */
+        private volatile V instance;
+
+        private Holder(K key) {
+            this.key = key;
+        }
+
+        private V get(Function<? super K, ? extends V> factory) {
+            V result = instance;
+            if (result != null) {
+                return result;
+            }
+            synchronized (this) {
+                if (instance == null) {
+                    V created = factory.apply(key);
+                    if (created == null) {
+                        throw new IllegalStateException("factory returned null for key " + key);
+                    }
+                    instance = created;
+                }
+                return instance;
+            }
+        }
+    }
+}
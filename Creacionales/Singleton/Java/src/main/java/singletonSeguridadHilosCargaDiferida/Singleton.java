@@ -1,10 +1,27 @@
 package singletonSeguridadHilosCargaDiferida;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
 
 public class Singleton {
     /* The field must be declared volatile so that double check
     look would work correctly */
     private static volatile Singleton instance;
+    /* A ReentrantLock parks waiting threads instead of pinning them to a
+    monitor, which keeps virtual threads free to unmount from their carrier */
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static final AtomicReference<CompletableFuture<Singleton>> asyncInstance = new AtomicReference<>();
+    /* Runs the one blocking construction on its own short-lived daemon
+    thread, so no shared pool worker is parked while it runs */
+    private static final Executor INIT_EXECUTOR = task -> {
+        Thread thread = new Thread(task, "singleton-init");
+        thread.setDaemon(true);
+        thread.start();
+    };
     public String value;
 
     private Singleton(String value) {
@@ -16,11 +33,57 @@ public class Singleton {
         if (result != null) {
             return result;
         }
-        synchronized (Singleton.class) {
+        lock.lock();
+        try {
             if (instance == null) {
                 instance = new Singleton(value);
             }
             return instance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static CompletableFuture<Singleton> getInstanceAsync(String value) {
+        return getInstanceAsync(value, INIT_EXECUTOR);
+    }
+
+    /* The construction task calls the blocking getInstance, so it occupies
+    one executor thread until the instance exists; pass an executor that can
+    afford that, not the pool the callers run on */
+    public static CompletableFuture<Singleton> getInstanceAsync(String value, Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        /* A failed initialization clears the slot again, so a lost race can
+        observe null and has to retry instead of returning it */
+        while (true) {
+            CompletableFuture<Singleton> future = asyncInstance.get();
+            if (future != null) {
+                return future;
+            }
+            Singleton result = instance;
+            CompletableFuture<Singleton> created = result != null
+                    ? CompletableFuture.completedFuture(result)
+                    : new CompletableFuture<>();
+            if (!asyncInstance.compareAndSet(null, created)) {
+                continue;
+            }
+            if (result == null) {
+                try {
+                    CompletableFuture.runAsync(() -> {
+                        try {
+                            created.complete(getInstance(value));
+                        } catch (Throwable e) {
+                            asyncInstance.compareAndSet(created, null);
+                            created.completeExceptionally(e);
+                        }
+                    }, executor);
+                } catch (RuntimeException e) {
+                    /* Rejected by the executor: fail this attempt and let the next caller retry */
+                    asyncInstance.compareAndSet(created, null);
+                    created.completeExceptionally(e);
+                }
+            }
+            return created;
         }
     }
 }
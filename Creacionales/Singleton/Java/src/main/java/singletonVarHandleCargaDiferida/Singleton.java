@@ -0,0 +1,40 @@
+package singletonVarHandleCargaDiferida;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+
+public class Singleton {
+    /* The fast path only needs acquire semantics to see a fully built
+    instance, which is cheaper than a full volatile read on weak memory models */
+    private static final VarHandle INSTANCE;
+    private static Singleton instance;
+    public String value;
+
+    static {
+        try {
+            INSTANCE = MethodHandles.lookup().findStaticVarHandle(Singleton.class, "instance", Singleton.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Singleton(String value) {
+        this.value = value;
+    }
+
+    public static Singleton getInstance(String value) {
+        Singleton result = (Singleton) INSTANCE.getAcquire();
+        if (result != null) {
+            return result;
+        }
+        synchronized (Singleton.class) {
+            result = (Singleton) INSTANCE.getAcquire();
+            if (result == null) {
+                result = new Singleton(value);
+                INSTANCE.setRelease(result);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package stress;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import benchmark.GetInstanceBenchmark;
+import benchmark.IsolatingClassLoader;
+
+/**
+ * Hammers getInstance() from many threads at once, in the spirit of jcstress.
+ * Every trial reloads the singleton class through a fresh class loader, so
+ * each trial races on the first-access initialization again. A trial fails
+ * when its threads saw more than one instance, or an instance with a
+ * reference field still null (a partially published object).
+ *
+ * Without arguments it checks every Singleton of this module. Fully
+ * qualified class names can be passed instead, for example
+ * singleton.SistemaRegistros with the java-comisaria classes on the
+ * classpath. The process exits with status 1 on any violation, except for
+ * the naive variants of this module, which are broken on purpose.
+ */
+public class SingletonStressTest {
+
+    private static final String[] MODULE_SINGLETONS = {
+        "singletonIngenuoSingleThread.Singleton",
+        "singletonIngenuoMultiThread.Singleton",
+        "singletonSeguridadHilosCargaDiferida.Singleton",
+        "singletonHolderCargaDiferida.Singleton",
+        "singletonEnum.Singleton",
+        "singletonVarHandleCargaDiferida.Singleton",
+    };
+    private static final Set<String> KNOWN_UNSAFE = Set.of(
+        "singletonIngenuoSingleThread.Singleton",
+        "singletonIngenuoMultiThread.Singleton"
+    );
+
+    private static final int THREADS = Integer.getInteger("stress.threads",
+            Math.max(8, 2 * Runtime.getRuntime().availableProcessors()));
+    private static final int CALLS_PER_THREAD = Integer.getInteger("stress.calls", 10_000);
+    private static final int MAX_TRIALS = Integer.getInteger("stress.trials", 2_000);
+    private static final long TIME_BOX_NANOS = TimeUnit.SECONDS.toNanos(Long.getLong("stress.seconds", 3));
+
+    public static void main(String[] args) throws Exception {
+        boolean strict = args.length > 0;
+        String[] targets = strict ? args : MODULE_SINGLETONS;
+        System.out.printf("%d threads, %d calls per thread per trial, up to %d trials or %d s per class%n%n",
+                THREADS, CALLS_PER_THREAD, MAX_TRIALS, TimeUnit.NANOSECONDS.toSeconds(TIME_BOX_NANOS));
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "singleton-stress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean failed = false;
+        try {
+            for (String className : targets) {
+                Result result = stress(className, pool);
+                boolean expected = !strict && KNOWN_UNSAFE.contains(className);
+                System.out.println(result.describe(className, expected));
+                failed |= result.violations() > 0 && !expected;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static Result stress(String className, ExecutorService pool) throws Exception {
+        Result result = new Result();
+        long deadline = System.nanoTime() + TIME_BOX_NANOS;
+        while (result.trials < MAX_TRIALS && System.nanoTime() < deadline) {
+            trial(className, pool, result);
+        }
+        return result;
+    }
+
+    private static void trial(String className, ExecutorService pool, Result result) throws Exception {
+        Class<?> type = IsolatingClassLoader.isolate(className, SingletonStressTest.class.getClassLoader());
+        MethodHandle getInstance = GetInstanceBenchmark.getInstanceHandle(type);
+        List<Field> referenceFields = referenceFields(type);
+        Set<Object> instances = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+
+        List<Future<Long>> workers = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            String value = "T" + t;
+            Callable<Long> worker = () -> {
+                barrier.await();
+                return hammer(getInstance, value, instances, referenceFields);
+            };
+            workers.add(pool.submit(worker));
+        }
+
+        long torn = 0;
+        for (Future<Long> worker : workers) {
+            try {
+                torn += worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("getInstance failed for " + className, e.getCause());
+            }
+        }
+        result.trials++;
+        result.calls += (long) THREADS * (CALLS_PER_THREAD + 1);
+        result.tornReads += torn;
+        if (instances.size() > 1) {
+            result.duplicateTrials++;
+            result.maxInstances = Math.max(result.maxInstances, instances.size());
+        }
+    }
+
+    /* Returns the number of torn instances this thread observed */
+    private static long hammer(MethodHandle getInstance, String value, Set<Object> instances,
+                               List<Field> referenceFields) throws Exception {
+        try {
+            long torn = 0;
+            Object seen = (Object) getInstance.invokeExact(value);
+            instances.add(seen);
+            if (isTorn(seen, referenceFields)) torn++;
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                Object current = (Object) getInstance.invokeExact(value);
+                if (current != seen) {
+                    instances.add(current);
+                    if (isTorn(current, referenceFields)) torn++;
+                    seen = current;
+                }
+            }
+            return torn;
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Field> referenceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) continue;
+            field.setAccessible(true);
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private static boolean isTorn(Object instance, List<Field> referenceFields) throws IllegalAccessException {
+        if (instance == null) return true;
+        for (Field field : referenceFields) {
+            if (field.get(instance) == null) return true;
+        }
+        return false;
+    }
+
+    private static final class Result {
+        private int trials;
+        private long calls;
+        private int duplicateTrials;
+        private int maxInstances = 1;
+        private long tornReads;
+
+        long violations() {
+            return duplicateTrials + tornReads;
+        }
+
+        String describe(String className, boolean expected) {
+            String verdict = violations() == 0 ? "OK" : expected ? "FAIL (expected)" : "FAIL";
+            return String.format("%-48s %-16s %6d trials %,14d calls %6d trials with duplicates (max %d instances) %6d torn reads",
+                    className, verdict, trials, calls, duplicateTrials, maxInstances, tornReads);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package warmup;
+
+
+public class DemoWarmup {
+    public static void main(String[] args) {
+        System.out.println(
+            "The two slow singletons sleep 1000 ms each. \n" +
+            "If total startup is close to 1000 ms, they were built in parallel (yay!) \n\n" +
+            "Result: \n"
+        );
+
+        WarmupReport report = new SingletonWarmup()
+            .register("singletonEnum", singletonEnum.Singleton::getInstance)
+            .register("singletonHolderCargaDiferida", singletonHolderCargaDiferida.Singleton::getInstance)
+            .register("singletonSeguridadHilosCargaDiferida",
+                () -> singletonSeguridadHilosCargaDiferida.Singleton.getInstance("WARM"),
+                "singletonEnum")
+            .register("singletonVarHandleCargaDiferida",
+                () -> singletonVarHandleCargaDiferida.Singleton.getInstance("WARM"),
+                "singletonHolderCargaDiferida")
+            .register("singletonIngenuoSingleThread",
+                () -> singletonIngenuoSingleThread.Singleton.getInstance("WARM"),
+                "singletonSeguridadHilosCargaDiferida")
+            .register("singletonIngenuoMultiThread",
+                () -> singletonIngenuoMultiThread.Singleton.getInstance("WARM"),
+                "singletonVarHandleCargaDiferida")
+            .run(4);
+
+        System.out.print(report);
+    }
+}
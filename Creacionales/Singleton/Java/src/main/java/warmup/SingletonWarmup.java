@@ -0,0 +1,129 @@
+package warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Builds lazily initialized singletons eagerly at boot, so the first user
+ * request does not pay for their construction. Each singleton starts as soon
+ * as everything it depends on is ready, on a pool of bounded size.
+ */
+public class SingletonWarmup {
+    private final Map<String, Registration> registrations = new LinkedHashMap<>();
+
+    public synchronized SingletonWarmup register(String name, Runnable initializer, String... dependencies) {
+        if (name == null || initializer == null) {
+            throw new IllegalArgumentException("name and initializer must not be null");
+        }
+        if (registrations.containsKey(name)) {
+            throw new IllegalArgumentException("Singleton already registered: " + name);
+        }
+        registrations.put(name, new Registration(initializer, Arrays.asList(dependencies)));
+        return this;
+    }
+
+    public WarmupReport run(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        List<String> order;
+        Map<String, Registration> snapshot;
+        synchronized (this) {
+            snapshot = new LinkedHashMap<>(registrations);
+        }
+        order = topologicalOrder(snapshot);
+
+        Map<String, Long> initNanos = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<Void>> done = new HashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "singleton-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try {
+            for (String name : order) {
+                Registration registration = snapshot.get(name);
+                CompletableFuture<?>[] dependencies = registration.dependencies.stream()
+                        .map(done::get)
+                        .toArray(CompletableFuture<?>[]::new);
+                done.put(name, CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        registration.initializer.run();
+                    } catch (RuntimeException e) {
+                        throw new IllegalStateException("Warm-up of " + name + " failed", e);
+                    }
+                    initNanos.put(name, System.nanoTime() - begin);
+                }, pool));
+            }
+            CompletableFuture.allOf(done.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        } finally {
+            pool.shutdownNow();
+        }
+        long totalNanos = System.nanoTime() - start;
+
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (String name : order) {
+            ordered.put(name, initNanos.get(name));
+        }
+        return new WarmupReport(ordered, totalNanos);
+    }
+
+    private static List<String> topologicalOrder(Map<String, Registration> registrations) {
+        Map<String, Integer> pending = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        registrations.forEach((name, registration) -> {
+            pending.put(name, registration.dependencies.size());
+            for (String dependency : registration.dependencies) {
+                if (!registrations.containsKey(dependency)) {
+                    throw new IllegalStateException(name + " depends on unregistered singleton " + dependency);
+                }
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(name);
+            }
+        });
+
+        Deque<String> ready = new ArrayDeque<>();
+        pending.forEach((name, count) -> {
+            if (count == 0) ready.add(name);
+        });
+        List<String> order = new ArrayList<>(registrations.size());
+        while (!ready.isEmpty()) {
+            String name = ready.poll();
+            order.add(name);
+            for (String dependent : dependents.getOrDefault(name, List.of())) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) ready.add(dependent);
+            }
+        }
+        if (order.size() != registrations.size()) {
+            List<String> cyclic = new ArrayList<>(registrations.keySet());
+            cyclic.removeAll(order);
+            throw new IllegalStateException("Dependency cycle between singletons: " + cyclic);
+        }
+        return order;
+    }
+
+    private static final class Registration {
+        private final Runnable initializer;
+        private final List<String> dependencies;
+
+        private Registration(Runnable initializer, List<String> dependencies) {
+            this.initializer = initializer;
+            this.dependencies = dependencies;
+        }
+    }
+}
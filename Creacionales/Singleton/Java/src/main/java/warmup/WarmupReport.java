@@ -0,0 +1,32 @@
+package warmup;
+
+import java.util.Collections;
+import java.util.Map;
+
+
+public class WarmupReport {
+    private final Map<String, Long> initNanos;
+    private final long totalNanos;
+
+    WarmupReport(Map<String, Long> initNanos, long totalNanos) {
+        this.initNanos = Collections.unmodifiableMap(initNanos);
+        this.totalNanos = totalNanos;
+    }
+
+    public Map<String, Long> getInitNanos() {
+        return initNanos;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        initNanos.forEach((name, nanos) ->
+                report.append(String.format("%-40s %10.3f ms%n", name, nanos / 1e6)));
+        report.append(String.format("%-40s %10.3f ms%n", "total startup", totalNanos / 1e6));
+        return report.toString();
+    }
+}
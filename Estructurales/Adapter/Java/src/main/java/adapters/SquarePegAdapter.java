@@ -1,18 +1,38 @@
 package adapters;
 
+import round.RoundHole;
 import square.SquarePeg;
 import round.RoundPeg;
 
 public class SquarePegAdapter extends RoundPeg {
-    private SquarePeg peg;
+    private final SquarePeg peg;
+    /* A SquarePeg never changes its width, so the radius is computed once */
+    private final double radius;
 
     public SquarePegAdapter(SquarePeg peg) {
         this.peg = peg;
+        this.radius = radiusOf(peg.getWidth());
     }
 
     @Override
     public double getRadius() {
-        double result = (Math.sqrt(Math.pow((peg.getWidth() / 2), 2) * 2));
-        return result;
+        return radius;
+    }
+
+    /**
+     * Radius of the smallest circle around a square of the given width,
+     * the same value an adapter for that square returns.
+     */
+    public static double radiusOf(double width) {
+        double half = width / 2;
+        return Math.sqrt(half * half * 2);
+    }
+
+    /**
+     * Answers whether a square peg of the given width fits the hole
+     * without wrapping it in an adapter.
+     */
+    public static boolean fits(RoundHole hole, double width) {
+        return hole.fits(radiusOf(width));
     }
 }
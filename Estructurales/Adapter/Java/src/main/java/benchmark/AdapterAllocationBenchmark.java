@@ -0,0 +1,91 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import adapters.SquarePegAdapter;
+import round.RoundHole;
+import square.SquarePeg;
+
+/**
+ * Allocation per fit query for a stream of square pegs: wrapping every
+ * peg in an adapter against SquarePegAdapter.fits on the raw width.
+ * Uses the per-thread allocation counter of ThreadMXBean, the same counter
+ * JMH's -prof gc reads.
+ */
+public class AdapterAllocationBenchmark {
+
+    private static final int QUERIES = 50_000_000;
+    private static final int LINE = 4_096;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile Object escaped;
+    private static volatile long sink;
+
+    /* Each pass holds its own loop, so every variant gets its own compiled loop */
+    interface Pass {
+        long run(int queries);
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        RoundHole hole = new RoundHole(5);
+        double[] widths = new double[LINE];
+        SquarePeg[] pegs = new SquarePeg[LINE];
+        for (int i = 0; i < LINE; i++) {
+            widths[i] = random.nextDouble() * 14;
+            pegs[i] = new SquarePeg(widths[i]);
+        }
+        SquarePegAdapter[] cached = new SquarePegAdapter[64];
+        for (int i = 0; i < cached.length; i++) {
+            cached[i] = new SquarePegAdapter(pegs[i]);
+        }
+
+        measure("new adapter per peg", queries -> {
+            long fits = 0;
+            for (int i = 0; i < queries; i++) {
+                if (hole.fits(new SquarePegAdapter(pegs[i & (LINE - 1)]))) fits++;
+            }
+            return fits;
+        });
+        measure("new adapter per peg, adapter escapes", queries -> {
+            long fits = 0;
+            for (int i = 0; i < queries; i++) {
+                SquarePegAdapter adapter = new SquarePegAdapter(pegs[i & (LINE - 1)]);
+                escaped = adapter;
+                if (hole.fits(adapter)) fits++;
+            }
+            return fits;
+        });
+        measure("SquarePegAdapter.fits(hole, width)", queries -> {
+            long fits = 0;
+            for (int i = 0; i < queries; i++) {
+                if (SquarePegAdapter.fits(hole, widths[i & (LINE - 1)])) fits++;
+            }
+            return fits;
+        });
+        measure("64 cached adapters, repeated queries", queries -> {
+            long fits = 0;
+            for (int i = 0; i < queries; i++) {
+                if (hole.fits(cached[i & 63])) fits++;
+            }
+            return fits;
+        });
+    }
+
+    private static void measure(String name, Pass pass) {
+        for (int round = 0; round < 5; round++) {
+            sink += pass.run(QUERIES / 5);
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        sink += pass.run(QUERIES);
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.printf("%-45s %8.2f ns/op %8.2f B/op%n",
+                name, (double) elapsed / QUERIES, (double) allocated / QUERIES);
+    }
+}
@@ -0,0 +1,60 @@
+package benchmark;
+
+import java.util.Random;
+
+import adapters.SquarePegAdapter;
+import round.RoundHole;
+import round.RoundPeg;
+import square.SquarePeg;
+
+/**
+ * Fit checks for 10M pegs, one virtual call per peg against the batch API.
+ * Build with -Pvector and run with --add-modules jdk.incubator.vector to
+ * use the Vector API kernel; otherwise the batch API uses its scalar loop.
+ */
+public class FitBenchmark {
+
+    private static final int PEGS = 10_000_000;
+    private static final int ROUNDS = 10;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        RoundHole hole = new RoundHole(5);
+        double[] radii = new double[PEGS];
+        double[] widths = new double[PEGS];
+        RoundPeg[] roundPegs = new RoundPeg[PEGS];
+        RoundPeg[] squarePegs = new RoundPeg[PEGS];
+        for (int i = 0; i < PEGS; i++) {
+            radii[i] = random.nextDouble() * 10;
+            widths[i] = random.nextDouble() * 14;
+            roundPegs[i] = new RoundPeg(radii[i]);
+            squarePegs[i] = new SquarePegAdapter(new SquarePeg(widths[i]));
+        }
+        boolean[] out = new boolean[PEGS];
+        System.out.println("batch kernel: " + (RoundHole.isBatchVectorized() ? "Vector API" : "scalar"));
+
+        measure("round: hole.fits(peg) per object", () -> {
+            for (int i = 0; i < PEGS; i++) out[i] = hole.fits(roundPegs[i]);
+        }, out);
+        measure("round: hole.fitsAll(radii)", () -> hole.fitsAll(radii, out), out);
+        measure("square: hole.fits(adapter) per object", () -> {
+            for (int i = 0; i < PEGS; i++) out[i] = hole.fits(squarePegs[i]);
+        }, out);
+        measure("square: hole.fitsAllSquareWidths(widths)", () -> hole.fitsAllSquareWidths(widths, out), out);
+    }
+
+    private static void measure(String name, Runnable pass, boolean[] out) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            pass.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        long fits = 0;
+        for (boolean fit : out) if (fit) fits++;
+        sink += fits;
+        System.out.printf("%-45s %8.2f ms %10.0f M pegs/s (%d fit)%n", name, best / 1e6, PEGS * 1e3 / best, fits);
+    }
+}
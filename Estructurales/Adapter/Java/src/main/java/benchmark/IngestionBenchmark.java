@@ -0,0 +1,93 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import adapters.SquarePegAdapter;
+import ingestion.IngestionReport;
+import ingestion.PegFile;
+import ingestion.PegIngestion;
+import round.RoundHole;
+import round.RoundPeg;
+import square.SquarePeg;
+
+/**
+ * Runs PegIngestion over a 50M-peg file, and the object path (load every
+ * record into RoundPeg / SquarePeg, then hole.fits) over the first 5M pegs.
+ */
+public class IngestionBenchmark {
+
+    private static final int PEGS = 50_000_000;
+    private static final int OBJECT_PEGS = 5_000_000;
+
+    public static void main(String[] args) throws IOException {
+        RoundHole[] holes = {new RoundHole(3), new RoundHole(5), new RoundHole(4)};
+        Path pegFile = Files.createTempFile("pegs", ".bin");
+        Path bitmapFile = Files.createTempFile("pegs", ".fits");
+        try {
+            Random random = new Random(42);
+            try (PegFile.Writer writer = new PegFile.Writer(pegFile)) {
+                for (int i = 0; i < PEGS; i++) {
+                    if (random.nextInt(10) < 7) {
+                        writer.writeRound(random.nextDouble() * 10);
+                    } else {
+                        writer.writeSquare(random.nextDouble() * 14);
+                    }
+                }
+            }
+            System.out.printf("peg file: %,d MB%n", Files.size(pegFile) >> 20);
+
+            PegIngestion ingestion = new PegIngestion(holes);
+            IngestionReport report = null;
+            for (int round = 0; round < 3; round++) {
+                report = ingestion.check(pegFile, bitmapFile);
+            }
+            System.out.printf("%-30s %s, bitmap %,d KB%n", "mapped ingestion", report, Files.size(bitmapFile) >> 10);
+
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                RoundPeg[] pegs = loadObjects(pegFile, OBJECT_PEGS);
+                long fits = 0;
+                long mismatches = 0;
+                ByteBuffer bitmap = ByteBuffer.wrap(Files.readAllBytes(bitmapFile));
+                for (int i = 0; i < pegs.length; i++) {
+                    boolean fit = false;
+                    for (RoundHole hole : holes) {
+                        fit |= hole.fits(pegs[i]);
+                    }
+                    if (fit) fits++;
+                    if (fit != ((bitmap.get(i >>> 3) >>> (i & 7) & 1) != 0)) mismatches++;
+                }
+                long elapsed = System.nanoTime() - start;
+                if (round == 2) {
+                    System.out.printf("%-30s %,d pegs, %,d fit, %.1f ms, %.0f M pegs/s, %d differ from bitmap%n",
+                            "objects + hole.fits", pegs.length, fits, elapsed / 1e6, pegs.length * 1e3 / elapsed, mismatches);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(pegFile);
+            Files.deleteIfExists(bitmapFile);
+        }
+    }
+
+    private static RoundPeg[] loadObjects(Path pegFile, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(pegFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) count * PegFile.RECORD_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            RoundPeg[] pegs = new RoundPeg[count];
+            for (int i = 0; i < count; i++) {
+                byte kind = buffer.get();
+                double value = buffer.getDouble();
+                pegs[i] = kind == PegFile.SQUARE ? new SquarePegAdapter(new SquarePeg(value)) : new RoundPeg(value);
+            }
+            return pegs;
+        }
+    }
+}
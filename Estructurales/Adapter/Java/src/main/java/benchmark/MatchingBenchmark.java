@@ -0,0 +1,74 @@
+package benchmark;
+
+import java.util.Random;
+
+import adapters.SquarePegAdapter;
+import matching.MatchResult;
+import matching.PegMatcher;
+import round.RoundHole;
+import round.RoundPeg;
+import square.SquarePeg;
+
+/**
+ * Matches 10M pegs (70% round, 30% square through SquarePegAdapter) to 1M
+ * holes, against the pairwise scan over every hole, which is timed on a
+ * small sample and extrapolated.
+ */
+public class MatchingBenchmark {
+
+    private static final int PEGS = 10_000_000;
+    private static final int HOLES = 1_000_000;
+    private static final int PAIRWISE_SAMPLE = 200;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        RoundHole[] holes = new RoundHole[HOLES];
+        for (int i = 0; i < HOLES; i++) {
+            holes[i] = new RoundHole(random.nextDouble() * 10);
+        }
+        RoundPeg[] pegs = new RoundPeg[PEGS];
+        for (int i = 0; i < PEGS; i++) {
+            pegs[i] = random.nextInt(10) < 7
+                    ? new RoundPeg(random.nextDouble() * 10.5)
+                    : new SquarePegAdapter(new SquarePeg(random.nextDouble() * 14));
+        }
+
+        long start = System.nanoTime();
+        PegMatcher matcher = new PegMatcher(holes);
+        System.out.printf("%-40s %10.1f ms%n", "index 1M holes", (System.nanoTime() - start) / 1e6);
+
+        for (int round = 0; round < 3; round++) {
+            boolean report = round == 2;
+            start = System.nanoTime();
+            MatchResult shared = matcher.matchShared(pegs);
+            if (report) report("matchShared, 10M pegs", start, shared);
+
+            start = System.nanoTime();
+            MatchResult exclusive = matcher.matchExclusive(pegs);
+            if (report) report("matchExclusive, 10M pegs", start, exclusive);
+        }
+
+        start = System.nanoTime();
+        for (int i = 0; i < PAIRWISE_SAMPLE; i++) {
+            sink += tightestPairwise(holes, pegs[i]);
+        }
+        double perPeg = (System.nanoTime() - start) / (double) PAIRWISE_SAMPLE;
+        System.out.printf("%-40s %10.1f ms (extrapolated from %d pegs)%n",
+                "pairwise scan, 10M pegs", perPeg * PEGS / 1e6, PAIRWISE_SAMPLE);
+    }
+
+    private static int tightestPairwise(RoundHole[] holes, RoundPeg peg) {
+        int best = -1;
+        for (int h = 0; h < holes.length; h++) {
+            if (holes[h].fits(peg) && (best < 0 || holes[h].getRadius() < holes[best].getRadius())) best = h;
+        }
+        return best;
+    }
+
+    private static void report(String name, long start, MatchResult result) {
+        System.out.printf("%-40s %10.1f ms, %,d matched, %,d unmatched%n",
+                name, (System.nanoTime() - start) / 1e6, result.getMatchedCount(), result.getUnmatchedCount());
+    }
+}
@@ -0,0 +1,31 @@
+package ingestion;
+
+public final class IngestionReport {
+    private final long pegs;
+    private final long fits;
+    private final long elapsedNanos;
+
+    IngestionReport(long pegs, long fits, long elapsedNanos) {
+        this.pegs = pegs;
+        this.fits = fits;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getPegs() {
+        return pegs;
+    }
+
+    public long getFits() {
+        return fits;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d pegs, %,d fit, %.1f ms, %.0f M pegs/s",
+                pegs, fits, elapsedNanos / 1e6, pegs * 1e3 / Math.max(1, elapsedNanos));
+    }
+}
@@ -0,0 +1,71 @@
+package ingestion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Layout of the peg measurement files written by the inspection cameras:
+ * a plain sequence of 9-byte records, one kind byte (ROUND or SQUARE)
+ * followed by the little-endian double radius or square width.
+ */
+public final class PegFile {
+    public static final int RECORD_SIZE = 9;
+    public static final byte ROUND = 0;
+    public static final byte SQUARE = 1;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private PegFile() {}
+
+    /**
+     * Streams records into a new peg file through a buffered channel.
+     */
+    public static final class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE << 13).order(ORDER);
+        private long records;
+
+        public Writer(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        }
+
+        public void writeRound(double radius) throws IOException {
+            write(ROUND, radius);
+        }
+
+        public void writeSquare(double width) throws IOException {
+            write(SQUARE, width);
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+
+        private void write(byte kind, double value) throws IOException {
+            if (buffer.remaining() < RECORD_SIZE) flush();
+            buffer.put(kind).putDouble(value);
+            records++;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ingestion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+import adapters.SquarePegAdapter;
+import round.RoundHole;
+
+/**
+ * Checks a peg file against a hole set without creating any peg objects.
+ * A peg passes when it fits at least one hole of the set, that is, the
+ * widest one. The input is mapped one window at a time, so files larger
+ * than memory stream through; each window is split into chunks checked in
+ * parallel. The result is a bitmap file with one bit per peg, peg i being
+ * bit (i % 8) of byte (i / 8).
+ */
+public class PegIngestion {
+    /* Multiple of 8 records, so every window and chunk starts on a bitmap byte */
+    public static final int DEFAULT_WINDOW_RECORDS = 1 << 22;
+    private static final int CHUNK_RECORDS = 1 << 16;
+
+    private final RoundHole widestHole;
+    private final int windowRecords;
+
+    public PegIngestion(RoundHole... holes) {
+        this(DEFAULT_WINDOW_RECORDS, holes);
+    }
+
+    public PegIngestion(int windowRecords, RoundHole... holes) {
+        if (windowRecords < 8 || windowRecords % 8 != 0) {
+            throw new IllegalArgumentException("Window must be a positive multiple of 8 records: " + windowRecords);
+        }
+        if (holes.length == 0) {
+            throw new IllegalArgumentException("At least one hole is needed");
+        }
+        RoundHole widest = holes[0];
+        for (RoundHole hole : holes) {
+            if (hole.getRadius() > widest.getRadius()) widest = hole;
+        }
+        this.widestHole = widest;
+        this.windowRecords = windowRecords;
+    }
+
+    public IngestionReport check(Path pegFile, Path bitmapFile) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(pegFile, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(bitmapFile, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            if (size % PegFile.RECORD_SIZE != 0) {
+                throw new IOException(pegFile + " ends with a partial record (" + size + " bytes)");
+            }
+            long pegs = size / PegFile.RECORD_SIZE;
+            long fits = 0;
+            for (long first = 0; first < pegs; first += windowRecords) {
+                int records = (int) Math.min(windowRecords, pegs - first);
+                ByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, first * PegFile.RECORD_SIZE,
+                        (long) records * PegFile.RECORD_SIZE).order(PegFile.ORDER);
+                MappedByteBuffer bitmap = out.map(FileChannel.MapMode.READ_WRITE, first / 8, (records + 7) / 8);
+                try {
+                    fits += checkWindow(window, bitmap, records, first);
+                } catch (IllegalStateException e) {
+                    throw new IOException(pegFile + ": " + e.getMessage(), e);
+                }
+            }
+            return new IngestionReport(pegs, fits, System.nanoTime() - start);
+        }
+    }
+
+    private long checkWindow(ByteBuffer window, ByteBuffer bitmap, int records, long firstPeg) {
+        int chunks = (records + CHUNK_RECORDS - 1) / CHUNK_RECORDS;
+        return IntStream.range(0, chunks).parallel().mapToLong(chunk -> {
+            int from = chunk * CHUNK_RECORDS;
+            int to = Math.min(records, from + CHUNK_RECORDS);
+            return checkChunk(window, bitmap, from, to, firstPeg);
+        }).sum();
+    }
+
+    private long checkChunk(ByteBuffer window, ByteBuffer bitmap, int from, int to, long firstPeg) {
+        long fits = 0;
+        int bits = 0;
+        for (int record = from; record < to; record++) {
+            int offset = record * PegFile.RECORD_SIZE;
+            byte kind = window.get(offset);
+            double value = window.getDouble(offset + 1);
+            if (kind != PegFile.ROUND && kind != PegFile.SQUARE) {
+                throw new IllegalStateException("Unknown peg kind " + kind + " at peg " + (firstPeg + record));
+            }
+            // kinds and fits arrive in random order, so both are selected without branching
+            double squareRadius = SquarePegAdapter.radiusOf(value);
+            double radius = kind == PegFile.SQUARE ? squareRadius : value;
+            int fit = widestHole.fits(radius) ? 1 : 0;
+            bits |= fit << (record & 7);
+            fits += fit;
+            if ((record & 7) == 7 || record == to - 1) {
+                bitmap.put(record >>> 3, (byte) bits);
+                bits = 0;
+            }
+        }
+        return fits;
+    }
+}
@@ -0,0 +1,45 @@
+package matching;
+
+/**
+ * Outcome of matching pegs to holes: for every peg, the index of its hole
+ * in the matcher's hole array, or -1 when no hole fits it.
+ */
+public final class MatchResult {
+    public static final int UNMATCHED = -1;
+
+    private final int[] holeOfPeg;
+    private final int unmatched;
+
+    MatchResult(int[] holeOfPeg) {
+        this.holeOfPeg = holeOfPeg;
+        int count = 0;
+        for (int hole : holeOfPeg) {
+            if (hole == UNMATCHED) count++;
+        }
+        this.unmatched = count;
+    }
+
+    public int size() {
+        return holeOfPeg.length;
+    }
+
+    public int getHole(int peg) {
+        return holeOfPeg[peg];
+    }
+
+    public int getMatchedCount() {
+        return holeOfPeg.length - unmatched;
+    }
+
+    public int getUnmatchedCount() {
+        return unmatched;
+    }
+
+    public int[] getUnmatchedPegs() {
+        int[] pegs = new int[unmatched];
+        for (int peg = 0, i = 0; i < unmatched; peg++) {
+            if (holeOfPeg[peg] == UNMATCHED) pegs[i++] = peg;
+        }
+        return pegs;
+    }
+}
@@ -0,0 +1,139 @@
+package matching;
+
+import java.util.Arrays;
+
+import round.RoundHole;
+import round.RoundPeg;
+
+/**
+ * Assigns pegs to the tightest round hole that fits them. Holes are
+ * sorted by radius once, and a bucket directory over the radius range
+ * narrows each lookup to a few neighbouring holes, so a peg costs a short
+ * binary search instead of a pass over every hole. Square pegs take part
+ * through SquarePegAdapter, or as radii from SquarePegAdapter.radiusOf.
+ */
+public class PegMatcher {
+    private final double[] sortedRadii;
+    private final int[] holeAt;
+    private final double minRadius;
+    private final double bucketScale;
+    private final int[] bucketStart;
+
+    public PegMatcher(RoundHole... holes) {
+        double[] radii = new double[holes.length];
+        for (int i = 0; i < holes.length; i++) {
+            radii[i] = holes[i].getRadius();
+            if (!(radii[i] >= 0)) {
+                throw new IllegalArgumentException("Hole " + i + " has an invalid radius: " + radii[i]);
+            }
+        }
+        sortedRadii = radii.clone();
+        Arrays.parallelSort(sortedRadii);
+
+        int buckets = Math.max(1, sortedRadii.length);
+        double range = sortedRadii.length == 0 ? 0 : sortedRadii[sortedRadii.length - 1] - sortedRadii[0];
+        minRadius = sortedRadii.length == 0 ? 0 : sortedRadii[0];
+        bucketScale = range > 0 ? buckets / range : 0;
+        bucketStart = new int[buckets + 1];
+        int slot = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            while (slot < sortedRadii.length && bucketOf(sortedRadii[slot]) < bucket) slot++;
+            bucketStart[bucket] = slot;
+        }
+        bucketStart[buckets] = sortedRadii.length;
+
+        holeAt = new int[radii.length];
+        // holes of equal radius are interchangeable, so each one just takes the next free slot of its run
+        int[] taken = new int[radii.length];
+        for (int hole = 0; hole < radii.length; hole++) {
+            int first = tightestFit(radii[hole]);
+            holeAt[first + taken[first]++] = hole;
+        }
+    }
+
+    public int holeCount() {
+        return holeAt.length;
+    }
+
+    /**
+     * Every peg gets the tightest hole that fits it; a hole can take any
+     * number of pegs. Pegs are searched in parallel.
+     */
+    public MatchResult matchShared(RoundPeg[] pegs) {
+        return matchShared(radii(pegs));
+    }
+
+    public MatchResult matchShared(double[] pegRadii) {
+        int[] holeOfPeg = new int[pegRadii.length];
+        Arrays.parallelSetAll(holeOfPeg, peg -> {
+            int slot = tightestFit(pegRadii[peg]);
+            return slot == sortedRadii.length ? MatchResult.UNMATCHED : holeAt[slot];
+        });
+        return new MatchResult(holeOfPeg);
+    }
+
+    /**
+     * Every hole takes at most one peg. Pegs are taken from smallest to
+     * largest and each gets the tightest hole still free, which matches
+     * as many pegs as possible.
+     */
+    public MatchResult matchExclusive(RoundPeg[] pegs) {
+        return matchExclusive(radii(pegs));
+    }
+
+    public MatchResult matchExclusive(double[] pegRadii) {
+        int holes = sortedRadii.length;
+        int[] slots = new int[pegRadii.length];
+        Arrays.parallelSetAll(slots, peg -> tightestFit(pegRadii[peg]));
+
+        // pegs with the same tightest slot fit exactly the same holes, so a
+        // counting sort by slot gives a valid smallest-first order in O(N + M)
+        int[] start = new int[holes + 2];
+        for (int slot : slots) start[slot + 1]++;
+        for (int slot = 0; slot <= holes; slot++) start[slot + 1] += start[slot];
+        int[] order = new int[slots.length];
+        for (int peg = 0; peg < slots.length; peg++) order[start[slots[peg]]++] = peg;
+
+        int[] holeOfPeg = new int[pegRadii.length];
+        Arrays.fill(holeOfPeg, MatchResult.UNMATCHED);
+        int free = 0;
+        for (int peg : order) {
+            free = Math.max(free, slots[peg]);
+            if (free >= holes) break;
+            holeOfPeg[peg] = holeAt[free++];
+        }
+        return new MatchResult(holeOfPeg);
+    }
+
+    /* Slot of the tightest hole that fits, or sortedRadii.length when none does */
+    private int tightestFit(double radius) {
+        if (Double.isNaN(radius)) return sortedRadii.length;
+        int bucket = bucketOf(radius);
+        return lowerBound(radius, bucketStart[bucket], bucketStart[bucket + 1]);
+    }
+
+    /* Monotonic in radius, so every hole at least as wide as a peg lies in
+    the peg's bucket or after it, and every narrower hole in it or before */
+    private int bucketOf(double radius) {
+        int bucket = (int) ((radius - minRadius) * bucketScale);
+        return Math.max(0, Math.min(bucket, bucketStart.length - 2));
+    }
+
+    private int lowerBound(double radius, int low, int high) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedRadii[middle] >= radius) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static double[] radii(RoundPeg[] pegs) {
+        double[] radii = new double[pegs.length];
+        Arrays.parallelSetAll(radii, i -> pegs[i].getRadius());
+        return radii;
+    }
+}
@@ -0,0 +1,31 @@
+package round;
+
+/**
+ * Batch fit checks behind RoundHole.fitsAll. The Vector API kernel lives
+ * in src/vector/java and is only compiled by the vector profile
+ * (mvn -Pvector). It is loaded when that class is present and the
+ * jdk.incubator.vector module is available at run time (java --add-modules
+ * jdk.incubator.vector); otherwise the scalar loop is used. Setting
+ * -Dround.vector=false forces the scalar loop.
+ */
+interface FitKernel {
+    FitKernel INSTANCE = select();
+
+    void fitsRadii(double holeRadius, double[] radii, boolean[] out, int length);
+
+    void fitsSquareWidths(double holeRadius, double[] widths, boolean[] out, int length);
+
+    boolean isVectorized();
+
+    private static FitKernel select() {
+        boolean vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        if (vectorModule && Boolean.parseBoolean(System.getProperty("round.vector", "true"))) {
+            try {
+                return (FitKernel) Class.forName("round.VectorFitKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall back to the scalar loop
+            }
+        }
+        return new ScalarFitKernel();
+    }
+}
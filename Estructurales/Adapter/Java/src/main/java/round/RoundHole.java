@@ -12,8 +12,38 @@ public class RoundHole {
     }
 
     public boolean fits(RoundPeg peg) {
-        boolean result;
-        result = (this.getRadius() >= peg.getRadius());
-        return result;
+        return fits(peg.getRadius());
+    }
+
+    public boolean fits(double pegRadius) {
+        return this.getRadius() >= pegRadius;
+    }
+
+    /**
+     * Checks a whole batch of round peg radii; out[i] is set to whether
+     * radii[i] fits. Uses the Vector API when it is available.
+     */
+    public void fitsAll(double[] radii, boolean[] out) {
+        checkLengths(radii, out);
+        FitKernel.INSTANCE.fitsRadii(radius, radii, out, radii.length);
+    }
+
+    /**
+     * Same as fitsAll for square pegs given by their raw widths, using the
+     * SquarePegAdapter radius without creating any adapter.
+     */
+    public void fitsAllSquareWidths(double[] widths, boolean[] out) {
+        checkLengths(widths, out);
+        FitKernel.INSTANCE.fitsSquareWidths(radius, widths, out, widths.length);
+    }
+
+    public static boolean isBatchVectorized() {
+        return FitKernel.INSTANCE.isVectorized();
+    }
+
+    private static void checkLengths(double[] values, boolean[] out) {
+        if (out.length < values.length) {
+            throw new IllegalArgumentException("Output holds " + out.length + " results, need " + values.length);
+        }
     }
 }
@@ -0,0 +1,24 @@
+package round;
+
+final class ScalarFitKernel implements FitKernel {
+
+    @Override
+    public void fitsRadii(double holeRadius, double[] radii, boolean[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = holeRadius >= radii[i];
+        }
+    }
+
+    @Override
+    public void fitsSquareWidths(double holeRadius, double[] widths, boolean[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            double half = widths[i] / 2;
+            out[i] = holeRadius >= Math.sqrt(half * half * 2);
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package round;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/* Same arithmetic as ScalarFitKernel, lane by lane, so both give the
+same answer for every input (NaN never fits) */
+final class VectorFitKernel implements FitKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void fitsRadii(double holeRadius, double[] radii, boolean[] out, int length) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(length); i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, radii, i)
+                    .compare(VectorOperators.LE, holeRadius)
+                    .intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = holeRadius >= radii[i];
+        }
+    }
+
+    @Override
+    public void fitsSquareWidths(double holeRadius, double[] widths, boolean[] out, int length) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(length); i < upper; i += SPECIES.length()) {
+            DoubleVector half = DoubleVector.fromArray(SPECIES, widths, i).div(2);
+            half.mul(half).mul(2)
+                    .lanewise(VectorOperators.SQRT)
+                    .compare(VectorOperators.LE, holeRadius)
+                    .intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            double half = widths[i] / 2;
+            out[i] = holeRadius >= Math.sqrt(half * half * 2);
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import productBase.AutoPrototype;
+import productBase.PrototypeFactory;
+import productPrototypes.AlfaRomeo;
+import productPrototypes.Ferrari;
+import productPrototypes.Fiat;
+
+public class ClonarBenchmark {
+
+    private static final int OPERATIONS = 20_000_000;
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        AutoPrototype ferrari = new Ferrari();
+        ferrari.setModelo("Ferrari 250 GT Berlinetta");
+        ferrari.setColor("Negro");
+        AutoPrototype legacy = new LegacyFerrari();
+        legacy.setModelo("Ferrari 250 GT Berlinetta");
+        legacy.setColor("Negro");
+        AutoPrototype generada = new GeneratedFerrari();
+        generada.setModelo("Ferrari 250 GT Berlinetta");
+        generada.setColor("Negro");
+        AutoPrototype[] catalogo = {new AlfaRomeo(), new Ferrari(), new Fiat()};
+
+        //? Cada variante tiene su propio bucle para que su llamada a clonar() sea monomorfica
+        for (int round = 0; round < 3; round++) {
+            System.out.println("Ronda " + round);
+            medir("Object.clone() con try/catch", retenidos -> {
+                for (int i = 0; i < OPERATIONS; i++) retenidos[i & 63] = legacy.clonar();
+            });
+            medir("clonar() actual (copia())", retenidos -> {
+                for (int i = 0; i < OPERATIONS; i++) retenidos[i & 63] = ferrari.clonar();
+            });
+            medir("Copia generada (MethodHandles)", retenidos -> {
+                for (int i = 0; i < OPERATIONS; i++) retenidos[i & 63] = generada.clonar();
+            });
+            medir("Catalogo mixto (3 marcas)", retenidos -> {
+                for (int i = 0; i < OPERATIONS; i++) retenidos[i & 63] = catalogo[i % catalogo.length].clonar();
+            });
+        }
+    }
+
+    private static void medir(String nombre, Consumer<Object[]> bucle) {
+        Object[] retenidos = new Object[64];
+        long inicio = System.nanoTime();
+        bucle.accept(retenidos);
+        long tiempo = System.nanoTime() - inicio;
+        sink = retenidos;
+        System.out.printf("  %-32s %8.2f ns/op %12.0f ops/s%n", nombre, (double) tiempo / OPERATIONS, OPERATIONS * 1e9 / tiempo);
+    }
+
+    static class GeneratedFerrari extends AutoPrototype {
+        private static final UnaryOperator<GeneratedFerrari> COPIER =
+                PrototypeFactory.of(GeneratedFerrari.class, MethodHandles.lookup());
+
+        @Override
+        public AutoPrototype clonar() {
+            return COPIER.apply(this);
+        }
+
+        @Override
+        public String descripcion() {
+            return "Modelo: " + modelo + ", Color: " + color;
+        }
+    }
+
+    static class LegacyFerrari extends AutoPrototype implements Cloneable {
+
+        @Override
+        public AutoPrototype clonar() {
+            AutoPrototype auto = null;
+            try {
+                auto = (LegacyFerrari) clone();
+            } catch (CloneNotSupportedException e) {
+                e.printStackTrace();
+            }
+            return auto;
+        }
+
+        @Override
+        public String descripcion() {
+            return "Modelo: " + modelo + ", Color: " + color;
+        }
+    }
+}
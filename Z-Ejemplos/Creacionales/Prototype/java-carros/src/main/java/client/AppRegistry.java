@@ -0,0 +1,34 @@
+package client;
+
+import productBase.AutoPrototype;
+import productPrototypes.AlfaRomeo;
+import productPrototypes.Ferrari;
+import productPrototypes.Fiat;
+import registry.PrototypeRegistry;
+
+public class AppRegistry {
+    public static void main(String[] args) throws InterruptedException {
+        try (PrototypeRegistry registry = new PrototypeRegistry(2_000, 500)) {
+            registry.register("Alfa Romeo", new AlfaRomeo());
+            registry.register("Ferrari", new Ferrari());
+            registry.register("Fiat", new Fiat());
+            Thread.sleep(100);
+
+            for (int rafaga = 0; rafaga < 5; rafaga++) {
+                for (int i = 0; i < 3_000; i++) {
+                    AutoPrototype berlinetta = registry.acquire("Ferrari");
+                    berlinetta.setModelo("Ferrari 250 GT Berlinetta #" + i);
+                    berlinetta.setColor("Negro");
+                }
+                System.out.println("Ferrari tras la rafaga " + rafaga + ": " + registry.getMetrics("Ferrari"));
+                Thread.sleep(50);
+            }
+
+            AutoPrototype panda = registry.acquire("Fiat");
+            panda.setModelo("Fiat Panda");
+            panda.setColor("Blanco y Negro");
+            System.out.println(panda.descripcion());
+            System.out.println("Fiat: " + registry.getMetrics("Fiat"));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package productBase;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.UnaryOperator;
+
+public final class PrototypeFactory {
+
+    private static final MethodType COPIER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private PrototypeFactory() {}
+
+    //? Genera una vez por clase la copia campo a campo (incluidos los heredados) a partir de los
+    //? campos declarados, sin Object.clone() ni copias escritas a mano. Es opcional: cuesta mas
+    //? por copia que Object.clone() (ver ClonarBenchmark), que es lo que usan los autos
+    @SuppressWarnings("unchecked")
+    public static <T extends AutoPrototype> UnaryOperator<T> of(Class<T> type, MethodHandles.Lookup lookup) {
+        MethodHandle copy;
+        try {
+            // copy(source) -> new T()
+            copy = MethodHandles.dropArguments(
+                    lookup.findConstructor(type, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class)),
+                    0, Object.class);
+            MethodHandle returnTarget = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, Object.class);
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+                    // copier(target, source) -> target.field = source.field
+                    MethodHandle copier = MethodHandles.filterArguments(
+                            lookup.unreflectSetter(field), 1, lookup.unreflectGetter(field)).asType(COPIER_TYPE);
+                    // copy(source) -> { target = copy(source); copier(target, source); return target; }
+                    copy = MethodHandles.foldArguments(MethodHandles.foldArguments(returnTarget, copier), copy);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No se pudo generar la copia de " + type.getName(), e);
+        }
+        MethodHandle generated = copy;
+        return source -> {
+            try {
+                return (T) (Object) generated.invokeExact((Object) source);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("No se pudo copiar " + type.getName(), e);
+            }
+        };
+    }
+}
@@ -6,13 +6,7 @@ public class AlfaRomeo extends AutoPrototype{
 
     @Override
     public AutoPrototype clonar() {
-        AutoPrototype auto = null;
-        try {
-            auto = (AlfaRomeo) clone();
-        } catch (CloneNotSupportedException e) {
-            e.printStackTrace();
-        }
-        return auto;
+        return copia();
     }
 
     @Override
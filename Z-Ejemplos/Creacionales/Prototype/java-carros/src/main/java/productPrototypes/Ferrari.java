@@ -6,13 +6,7 @@ public class Ferrari extends AutoPrototype {
 
     @Override
     public AutoPrototype clonar() {
-        AutoPrototype auto = null;
-        try {
-            auto = (Ferrari) clone();
-        } catch (CloneNotSupportedException e) {
-            e.printStackTrace();
-        }
-        return auto;
+        return copia();
     }
 
     @Override
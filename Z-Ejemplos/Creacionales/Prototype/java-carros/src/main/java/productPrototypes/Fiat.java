@@ -6,13 +6,7 @@ public class Fiat extends AutoPrototype {
 
     @Override
     public AutoPrototype clonar() {
-        AutoPrototype auto = null;
-        try {
-            auto = (Fiat) clone();
-        } catch (CloneNotSupportedException e) {
-            e.printStackTrace();
-        }
-        return auto;
+        return copia();
     }
 
     @Override
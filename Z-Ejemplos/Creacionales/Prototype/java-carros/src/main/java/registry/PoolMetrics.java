@@ -0,0 +1,64 @@
+package registry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PoolMetrics {
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillLagNanos = new LongAdder();
+    private final AtomicLong maxRefillLagNanos = new AtomicLong();
+
+    AtomicInteger depth() {
+        return depth;
+    }
+
+    void recordAcquisition(boolean fallback) {
+        acquisitions.increment();
+        if (fallback) fallbacks.increment();
+    }
+
+    void recordRefill(long lagNanos) {
+        refills.increment();
+        refillLagNanos.add(lagNanos);
+        maxRefillLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+    public int getDepth() {
+        return depth.get();
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    public long getRefills() {
+        return refills.sum();
+    }
+
+    public double getAverageRefillLagMillis() {
+        long count = refills.sum();
+        return count == 0 ? 0 : refillLagNanos.sum() / 1e6 / count;
+    }
+
+    public double getMaxRefillLagMillis() {
+        return maxRefillLagNanos.get() / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return "profundidad=" + getDepth()
+                + ", entregas=" + getAcquisitions()
+                + ", sinPool=" + getFallbacks()
+                + ", recargas=" + getRefills()
+                + ", retrasoMedio=" + String.format("%.3f ms", getAverageRefillLagMillis())
+                + ", retrasoMax=" + String.format("%.3f ms", getMaxRefillLagMillis());
+    }
+}
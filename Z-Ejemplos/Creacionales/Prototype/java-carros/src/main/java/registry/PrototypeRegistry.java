@@ -0,0 +1,118 @@
+package registry;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import productBase.AutoPrototype;
+
+public class PrototypeRegistry implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_LOW_WATER_MARK = 256;
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final ExecutorService refiller;
+    private final int capacity;
+    private final int lowWaterMark;
+
+    public PrototypeRegistry() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOW_WATER_MARK);
+    }
+
+    public PrototypeRegistry(int capacity, int lowWaterMark) {
+        if (capacity < 1 || lowWaterMark < 0 || lowWaterMark > capacity) {
+            throw new IllegalArgumentException("Se requiere 0 <= lowWaterMark <= capacity y capacity > 0");
+        }
+        this.capacity = capacity;
+        this.lowWaterMark = lowWaterMark;
+        this.refiller = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prototype-registry-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void register(String modelo, AutoPrototype prototipo) {
+        if (modelo == null || prototipo == null) {
+            throw new IllegalArgumentException("El modelo y el prototipo son obligatorios");
+        }
+        //? Se guarda una copia propia: cambios posteriores del llamador no afectan a los clones del pool
+        Pool pool = new Pool(prototipo.clonar());
+        pools.put(modelo, pool);
+        pool.scheduleRefill();
+    }
+
+    public AutoPrototype acquire(String modelo) {
+        Pool pool = pools.get(modelo);
+        if (pool == null) {
+            throw new NoSuchElementException("No hay un prototipo registrado para el modelo: " + modelo);
+        }
+        return pool.acquire();
+    }
+
+    public PoolMetrics getMetrics(String modelo) {
+        Pool pool = pools.get(modelo);
+        if (pool == null) {
+            throw new NoSuchElementException("No hay un prototipo registrado para el modelo: " + modelo);
+        }
+        return pool.metrics;
+    }
+
+    @Override
+    public void close() {
+        refiller.shutdownNow();
+    }
+
+    private final class Pool {
+        private final AutoPrototype prototipo;
+        private final Queue<AutoPrototype> clones = new ConcurrentLinkedQueue<>();
+        private final PoolMetrics metrics = new PoolMetrics();
+        private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+        private Pool(AutoPrototype prototipo) {
+            this.prototipo = prototipo;
+        }
+
+        private AutoPrototype acquire() {
+            AutoPrototype auto = clones.poll();
+            boolean fallback = auto == null;
+            if (fallback) {
+                auto = prototipo.clonar();
+            } else {
+                metrics.depth().decrementAndGet();
+            }
+            metrics.recordAcquisition(fallback);
+            if (metrics.getDepth() < lowWaterMark) {
+                scheduleRefill();
+            }
+            return auto;
+        }
+
+        private void scheduleRefill() {
+            if (!refillScheduled.compareAndSet(false, true)) return;
+            long requestedAt = System.nanoTime();
+            try {
+                refiller.execute(() -> refill(requestedAt));
+            } catch (RuntimeException e) {
+                refillScheduled.set(false);
+            }
+        }
+
+        private void refill(long requestedAt) {
+            while (metrics.getDepth() < capacity && !Thread.currentThread().isInterrupted()) {
+                clones.offer(prototipo.clonar());
+                metrics.depth().incrementAndGet();
+            }
+            metrics.recordRefill(System.nanoTime() - requestedAt);
+            refillScheduled.set(false);
+            if (metrics.getDepth() < lowWaterMark) {
+                scheduleRefill();
+            }
+        }
+    }
+}